@@ -1,31 +1,104 @@
 package com.mygdx.game.AbstractCollision;
 
+import java.util.function.Consumer;
+
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.AbstractEntity.Entity;
 import com.mygdx.game.AbstractEntity.iEntityManager;
 
 public abstract class AbstractCollisionManager implements iCollisionManager {
     // Changed from protected to private for better encapsulation
     private final iEntityManager entityManager;
+    // Cached callback so the per-frame pass does not allocate a lambda
+    private final Consumer<Entity> collisionHandler = this::handleIfCollidable;
+    // Strategy that supplies candidate entities to the handlers
+    private final iBroadphase broadphase;
+    // Touching pairs from the previous pass and the events found in the current one
+    private final ContactPairCache contactCache = new ContactPairCache();
+    private final ContactEventBuffer contactEvents = new ContactEventBuffer();
 
     // Constructor to initialise the collision manager with an entity manager
     public AbstractCollisionManager(iEntityManager entityManager) {
+        this(entityManager, new BruteForceBroadphase());
+    }
+
+    // Constructor that selects the broadphase strategy
+    public AbstractCollisionManager(iEntityManager entityManager, iBroadphase broadphase) {
         this.entityManager = entityManager;
+        this.broadphase = broadphase;
     }
 
     // Method to detect collisions for all entities managed by the entity manager
     public final void detectCollisions() {
-        for (Entity entity : entityManager.getEntities()) {
-            handleCollision(entity);
+        // Entities spawned or removed while detecting or dispatching are applied afterwards
+        entityManager.beginFrame();
+        try {
+            contactEvents.clear();
+            contactCache.beginPass();
+
+            // Re-index every entity at its post-movement position
+            broadphase.update(entityManager.getEntities());
+            entityManager.forEachEntity(collisionHandler);
+
+            // Side effects run only once the whole pass has been scanned
+            contactCache.endPass(contactEvents);
+            processContacts(contactEvents);
+        } finally {
+            entityManager.endFrame();
         }
     }
 
+    // Records that two entities touch in this pass; called from handleCollision
+    protected final void reportContact(Entity first, Entity second) {
+        contactCache.report(first, second, contactEvents);
+    }
+
+    // Forgets all touching pairs, e.g. when the manager is disposed
+    protected final void clearContacts() {
+        contactEvents.clear();
+        contactCache.clear();
+    }
+
     // Protected getter method to allow subclasses to access the entity manager
     protected iEntityManager getEntityManager() {
         return entityManager;
     }
 
-    // Abstract method to handle collision for a single entity
+    // Entities whose mask is empty never take part in a collision, so they skip the handler
+    private void handleIfCollidable(Entity entity) {
+        if (entity.getCollisionMask() != 0) {
+            handleCollision(entity);
+        }
+    }
+
+    /**
+     * Collects entities that may overlap the given area and can interact with the owner.
+     * Pairs rejected by the collision layers are dropped before any geometry test;
+     * handlers run exact tests on what remains.
+     */
+    protected void queryCandidates(Entity owner, float x, float y, float width, float height, Array<Entity> out) {
+        broadphase.query(x, y, width, height, out);
+
+        int kept = 0;
+        for (int i = 0; i < out.size; i++) {
+            Entity candidate = out.get(i);
+            if (candidate != owner && owner.canCollideWith(candidate)) {
+                out.set(kept++, candidate);
+            }
+        }
+        out.truncate(kept);
+    }
+
+    // Protected getter so subclasses can release or inspect the broadphase
+    protected iBroadphase getBroadphase() {
+        return broadphase;
+    }
+
+    // Abstract method to find the contacts of a single entity and report them
     protected abstract void handleCollision(Entity entity);
 
+    // Abstract method to apply the begin/persist/end events found in a pass
+    protected abstract void processContacts(ContactEventBuffer events);
+
     public abstract void dispose();
 }
\ No newline at end of file
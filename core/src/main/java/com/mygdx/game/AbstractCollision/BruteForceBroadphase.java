@@ -0,0 +1,34 @@
+package com.mygdx.game.AbstractCollision;
+
+import java.util.List;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AbstractEntity.Entity;
+
+/**
+ * Reference broadphase that reports every entity as a candidate.
+ * Matches the original full scans and serves as a baseline when
+ * comparing the other strategies.
+ */
+public class BruteForceBroadphase implements iBroadphase {
+    private final Array<Entity> entities = new Array<>(false, 64); // Snapshot from the last update
+
+    @Override
+    public void update(List<Entity> entities) {
+        this.entities.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            this.entities.add(entities.get(i));
+        }
+    }
+
+    @Override
+    public void query(float x, float y, float width, float height, Array<Entity> out) {
+        out.clear();
+        out.addAll(entities);
+    }
+
+    @Override
+    public void clear() {
+        entities.clear();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mygdx.game.AbstractCollision;
+
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.AbstractEntity.Entity;
+
+// A single contact change between two entities, recycled by ContactEventBuffer
+public class ContactEvent implements Pool.Poolable {
+    private ContactPhase phase;
+    private Entity first; // Entity that reported the contact
+    private Entity second; // Entity it touched
+
+    // Fills the event; only the buffer creates events
+    ContactEvent set(ContactPhase phase, Entity first, Entity second) {
+        this.phase = phase;
+        this.first = first;
+        this.second = second;
+        return this;
+    }
+
+    public ContactPhase getPhase() {
+        return phase;
+    }
+
+    public Entity getFirst() {
+        return first;
+    }
+
+    public Entity getSecond() {
+        return second;
+    }
+
+    @Override
+    public void reset() {
+        phase = null;
+        first = null;
+        second = null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.mygdx.game.AbstractCollision;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.AbstractEntity.Entity;
+
+/**
+ * Contact events produced by one collision pass, in the order they were found.
+ * Events are pooled, so filling and clearing the buffer every frame does not
+ * allocate once the pool has warmed up.
+ */
+public class ContactEventBuffer {
+    private final Array<ContactEvent> events = new Array<>(false, 32);
+    private final Pool<ContactEvent> eventPool = new Pool<ContactEvent>(32) {
+        @Override
+        protected ContactEvent newObject() {
+            return new ContactEvent();
+        }
+    };
+
+    // Appends an event for the pair
+    void add(ContactPhase phase, Entity first, Entity second) {
+        events.add(eventPool.obtain().set(phase, first, second));
+    }
+
+    public int size() {
+        return events.size;
+    }
+
+    public ContactEvent get(int index) {
+        return events.get(index);
+    }
+
+    // Returns every event to the pool
+    public void clear() {
+        eventPool.freeAll(events);
+        events.clear();
+    }
+}
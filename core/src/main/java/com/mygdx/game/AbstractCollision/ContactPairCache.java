@@ -0,0 +1,95 @@
+package com.mygdx.game.AbstractCollision;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.AbstractEntity.Entity;
+
+/**
+ * Remembers which entity pairs were touching in the previous collision pass,
+ * so each reported contact can be classified as begin or persist, and pairs
+ * that were not reported again produce an end event.
+ */
+class ContactPairCache {
+    private final LongMap<ContactPair> pairs = new LongMap<>(); // Touching pairs by id key
+    private final Array<ContactPair> touching = new Array<>(false, 32); // Same pairs, for sweeping
+    private final Pool<ContactPair> pairPool = new Pool<ContactPair>(32) {
+        @Override
+        protected ContactPair newObject() {
+            return new ContactPair();
+        }
+    };
+    private int pass = 0; // Current collision pass number
+
+    // A pair of entities known to be touching
+    private static class ContactPair implements Pool.Poolable {
+        private long key;
+        private Entity first;
+        private Entity second;
+        private int lastPass; // Last pass in which the pair was reported
+
+        @Override
+        public void reset() {
+            first = null;
+            second = null;
+        }
+    }
+
+    // Starts a new collision pass
+    void beginPass() {
+        pass++;
+    }
+
+    /**
+     * Records that two entities touch in the current pass.
+     * Reporting the same pair more than once per pass has no further effect.
+     */
+    void report(Entity first, Entity second, ContactEventBuffer events) {
+        long key = pairKey(first.getId(), second.getId());
+        ContactPair pair = pairs.get(key);
+        if (pair == null) {
+            pair = pairPool.obtain();
+            pair.key = key;
+            pair.first = first;
+            pair.second = second;
+            pairs.put(key, pair);
+            touching.add(pair);
+            events.add(ContactPhase.BEGIN, first, second);
+        } else if (pair.lastPass != pass) {
+            events.add(ContactPhase.PERSIST, pair.first, pair.second);
+        } else {
+            return;
+        }
+        pair.lastPass = pass;
+    }
+
+    // Ends every pair that was not reported in the current pass
+    void endPass(ContactEventBuffer events) {
+        int kept = 0;
+        for (int i = 0; i < touching.size; i++) {
+            ContactPair pair = touching.get(i);
+            if (pair.lastPass == pass) {
+                touching.set(kept++, pair);
+            } else {
+                events.add(ContactPhase.END, pair.first, pair.second);
+                pairs.remove(pair.key);
+                pairPool.free(pair);
+            }
+        }
+        touching.truncate(kept);
+    }
+
+    // Forgets every pair without emitting events
+    void clear() {
+        pairPool.freeAll(touching);
+        touching.clear();
+        pairs.clear();
+    }
+
+    // Order-independent key for two entity ids
+    private static long pairKey(int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return ((long) low << 32) | (high & 0xffffffffL);
+    }
+}
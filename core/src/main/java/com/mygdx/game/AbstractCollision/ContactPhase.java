@@ -0,0 +1,8 @@
+package com.mygdx.game.AbstractCollision;
+
+// Lifecycle stage of a contact between two entities
+public enum ContactPhase {
+    BEGIN,   // First pass in which the pair touches
+    PERSIST, // Pair was already touching in the previous pass
+    END      // Pair stopped touching (either entity may have left the game)
+}
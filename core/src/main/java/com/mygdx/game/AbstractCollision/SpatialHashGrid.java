@@ -0,0 +1,130 @@
+package com.mygdx.game.AbstractCollision;
+
+import java.util.List;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.LongMap;
+import com.mygdx.game.AbstractEntity.Entity;
+
+/**
+ * Uniform spatial hash over entity bounds, used as a collision broadphase.
+ * Entities are bucketed into square cells; a query only visits the cells
+ * its area touches, so the cost follows local density rather than the
+ * total entity count. Cell lists are recycled between rebuilds.
+ */
+public class SpatialHashGrid implements iBroadphase {
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    private final LongMap<Array<Entity>> cells = new LongMap<>(); // Occupied cells by packed key
+    private final Array<Array<Entity>> freeCells = new Array<>(false, 16); // Recycled cell lists
+    private final IntSet reported = new IntSet(); // Ids already returned by the current query
+
+    /**
+     * Creates a new grid
+     *
+     * @param cellSize Width and height of each cell in world units
+     */
+    public SpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    /**
+     * Empties the grid and inserts every entity in the list
+     *
+     * @param entities The entities to index
+     */
+    @Override
+    public void update(List<Entity> entities) {
+        clear();
+        for (int i = 0; i < entities.size(); i++) {
+            insert(entities.get(i));
+        }
+    }
+
+    /**
+     * Inserts an entity into every cell its bounds overlap
+     *
+     * @param entity The entity to index
+     */
+    public void insert(Entity entity) {
+        int minCellX = cellCoord(entity.getX());
+        int minCellY = cellCoord(entity.getY());
+        int maxCellX = cellCoord(entity.getX() + entity.getWidth());
+        int maxCellY = cellCoord(entity.getY() + entity.getHeight());
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                long key = cellKey(cx, cy);
+                Array<Entity> cell = cells.get(key);
+                if (cell == null) {
+                    cell = freeCells.size > 0 ? freeCells.pop() : new Array<Entity>(false, 8);
+                    cells.put(key, cell);
+                }
+                cell.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Collects every indexed entity whose cells overlap the given area.
+     * Results are candidates only; callers still run their exact tests.
+     *
+     * @param x      Left edge of the area
+     * @param y      Bottom edge of the area
+     * @param width  Width of the area
+     * @param height Height of the area
+     * @param out    Array that receives the candidates (cleared first)
+     */
+    @Override
+    public void query(float x, float y, float width, float height, Array<Entity> out) {
+        out.clear();
+        reported.clear();
+        int minCellX = cellCoord(x);
+        int minCellY = cellCoord(y);
+        int maxCellX = cellCoord(x + width);
+        int maxCellY = cellCoord(y + height);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Array<Entity> cell = cells.get(cellKey(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    Entity entity = cell.get(i);
+                    // Entities spanning several cells are reported once
+                    if (reported.add(entity.getId())) {
+                        out.add(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    // Removes all entities, keeping the cell lists for reuse
+    @Override
+    public void clear() {
+        for (Array<Entity> cell : cells.values()) {
+            cell.clear();
+            freeCells.add(cell);
+        }
+        cells.clear();
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    // Converts a world coordinate to a cell index
+    private int cellCoord(float value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    // Packs two cell indices into a single map key
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
@@ -0,0 +1,193 @@
+package com.mygdx.game.AbstractCollision;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Grid index over obstacles that do not move while they exist.
+ * It is rebuilt only when the set of obstacles changes, and answers overlap
+ * and swept-move probes by visiting only the cells near the probe, without
+ * allocating.
+ */
+public class StaticObstacleIndex {
+    private final float inverseCellSize;
+
+    // Obstacle boxes as parallel coordinate arrays
+    private final FloatArray minXs = new FloatArray();
+    private final FloatArray minYs = new FloatArray();
+    private final FloatArray maxXs = new FloatArray();
+    private final FloatArray maxYs = new FloatArray();
+
+    private final LongMap<IntArray> cells = new LongMap<>(); // Obstacle indices by packed cell key
+    private final Array<IntArray> freeCells = new Array<>(false, 16); // Recycled cell lists
+
+    /**
+     * Creates an empty index
+     *
+     * @param cellSize Width and height of each cell in world units
+     */
+    public StaticObstacleIndex(float cellSize) {
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    // Removes every obstacle, keeping the cell lists for reuse
+    public void clear() {
+        for (IntArray cell : cells.values()) {
+            cell.clear();
+            freeCells.add(cell);
+        }
+        cells.clear();
+        minXs.clear();
+        minYs.clear();
+        maxXs.clear();
+        maxYs.clear();
+    }
+
+    /**
+     * Adds an obstacle box
+     *
+     * @param x      Left edge
+     * @param y      Bottom edge
+     * @param width  Box width
+     * @param height Box height
+     */
+    public void add(float x, float y, float width, float height) {
+        int index = minXs.size;
+        minXs.add(x);
+        minYs.add(y);
+        maxXs.add(x + width);
+        maxYs.add(y + height);
+
+        for (int cx = cellCoord(x); cx <= cellCoord(x + width); cx++) {
+            for (int cy = cellCoord(y); cy <= cellCoord(y + height); cy++) {
+                long key = cellKey(cx, cy);
+                IntArray cell = cells.get(key);
+                if (cell == null) {
+                    cell = freeCells.size > 0 ? freeCells.pop() : new IntArray(false, 4);
+                    cells.put(key, cell);
+                }
+                cell.add(index);
+            }
+        }
+    }
+
+    public int size() {
+        return minXs.size;
+    }
+
+    /**
+     * Checks whether a box would overlap any obstacle.
+     * Boxes that only touch along an edge do not count as overlapping.
+     */
+    public boolean overlaps(float x, float y, float width, float height) {
+        float right = x + width;
+        float top = y + height;
+        for (int cx = cellCoord(x); cx <= cellCoord(right); cx++) {
+            for (int cy = cellCoord(y); cy <= cellCoord(top); cy++) {
+                IntArray cell = cells.get(cellKey(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    int o = cell.get(i);
+                    if (x < maxXs.get(o) && right > minXs.get(o) && y < maxYs.get(o) && top > minYs.get(o)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves a box horizontally as far as it can go without entering an obstacle.
+     * Obstacles the box already overlaps are ignored so it can always move out.
+     *
+     * @param dx Requested horizontal displacement
+     * @return Allowed displacement, with the same sign as dx and no larger in size
+     */
+    public float sweepX(float x, float y, float width, float height, float dx) {
+        if (dx == 0 || minXs.size == 0) {
+            return dx;
+        }
+        float right = x + width;
+        float top = y + height;
+        float sweepMin = dx > 0 ? x : x + dx;
+        float sweepMax = dx > 0 ? right + dx : right;
+
+        float allowed = dx;
+        for (int cx = cellCoord(sweepMin); cx <= cellCoord(sweepMax); cx++) {
+            for (int cy = cellCoord(y); cy <= cellCoord(top); cy++) {
+                IntArray cell = cells.get(cellKey(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    int o = cell.get(i);
+                    // Only obstacles sharing the box's vertical span can block a horizontal move
+                    if (y >= maxYs.get(o) || top <= minYs.get(o)) {
+                        continue;
+                    }
+                    if (dx > 0 && minXs.get(o) >= right) {
+                        allowed = Math.min(allowed, minXs.get(o) - right);
+                    } else if (dx < 0 && maxXs.get(o) <= x) {
+                        allowed = Math.max(allowed, maxXs.get(o) - x);
+                    }
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Moves a box vertically as far as it can go without entering an obstacle.
+     * Obstacles the box already overlaps are ignored so it can always move out.
+     *
+     * @param dy Requested vertical displacement
+     * @return Allowed displacement, with the same sign as dy and no larger in size
+     */
+    public float sweepY(float x, float y, float width, float height, float dy) {
+        if (dy == 0 || minXs.size == 0) {
+            return dy;
+        }
+        float right = x + width;
+        float top = y + height;
+        float sweepMin = dy > 0 ? y : y + dy;
+        float sweepMax = dy > 0 ? top + dy : top;
+
+        float allowed = dy;
+        for (int cx = cellCoord(x); cx <= cellCoord(right); cx++) {
+            for (int cy = cellCoord(sweepMin); cy <= cellCoord(sweepMax); cy++) {
+                IntArray cell = cells.get(cellKey(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    int o = cell.get(i);
+                    // Only obstacles sharing the box's horizontal span can block a vertical move
+                    if (x >= maxXs.get(o) || right <= minXs.get(o)) {
+                        continue;
+                    }
+                    if (dy > 0 && minYs.get(o) >= top) {
+                        allowed = Math.min(allowed, minYs.get(o) - top);
+                    } else if (dy < 0 && maxYs.get(o) <= y) {
+                        allowed = Math.max(allowed, maxYs.get(o) - y);
+                    }
+                }
+            }
+        }
+        return allowed;
+    }
+
+    // Converts a world coordinate to a cell index
+    private int cellCoord(float value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    // Packs two cell indices into a single map key
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
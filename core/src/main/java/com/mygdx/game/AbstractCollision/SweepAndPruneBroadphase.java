@@ -0,0 +1,112 @@
+package com.mygdx.game.AbstractCollision;
+
+import java.util.List;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.mygdx.game.AbstractEntity.Entity;
+
+/**
+ * Sort-and-sweep broadphase on the X axis.
+ * Entities stay sorted by their left edge between passes. Game motion is
+ * almost entirely vertical, so the order barely changes from one frame to
+ * the next and an insertion sort restores it in close to linear time.
+ * Queries binary search the sorted list and sweep only the matching span.
+ */
+public class SweepAndPruneBroadphase implements iBroadphase {
+    private final Array<Entity> sorted = new Array<>(true, 64); // Entities ordered by left edge
+    private final ObjectSet<Entity> indexed = new ObjectSet<>(); // Entities currently in sorted
+    private final ObjectSet<Entity> current = new ObjectSet<>(); // Entities passed to the last update
+    private float maxWidth = 0; // Widest entity, bounds how far left a query has to look
+
+    @Override
+    public void update(List<Entity> entities) {
+        current.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            current.add(entities.get(i));
+        }
+
+        // Drop entities that left, keeping the survivors in their previous order
+        int kept = 0;
+        for (int i = 0; i < sorted.size; i++) {
+            Entity entity = sorted.get(i);
+            if (current.contains(entity)) {
+                sorted.set(kept++, entity);
+            } else {
+                indexed.remove(entity);
+            }
+        }
+        sorted.truncate(kept);
+
+        // Newcomers are appended and sorted into place below
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (indexed.add(entity)) {
+                sorted.add(entity);
+            }
+        }
+
+        insertionSort();
+    }
+
+    // Restores left-edge order; cheap when the list is nearly sorted already
+    private void insertionSort() {
+        Entity[] items = sorted.items;
+        maxWidth = 0;
+        for (int i = 0; i < sorted.size; i++) {
+            Entity entity = items[i];
+            float x = entity.getX();
+            int j = i - 1;
+            while (j >= 0 && items[j].getX() > x) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = entity;
+            maxWidth = Math.max(maxWidth, entity.getWidth());
+        }
+    }
+
+    @Override
+    public void query(float x, float y, float width, float height, Array<Entity> out) {
+        out.clear();
+        Entity[] items = sorted.items;
+        float right = x + width;
+        float top = y + height;
+
+        // No entity starting left of this can reach the query area
+        for (int i = firstIndexAtOrAfter(x - maxWidth); i < sorted.size; i++) {
+            Entity entity = items[i];
+            if (entity.getX() > right) {
+                break; // Everything further along starts past the area
+            }
+            if (entity.getX() + entity.getWidth() >= x
+                    && entity.getY() <= top && entity.getY() + entity.getHeight() >= y) {
+                out.add(entity);
+            }
+        }
+    }
+
+    // Binary search for the first entity whose left edge is at least minX
+    private int firstIndexAtOrAfter(float minX) {
+        Entity[] items = sorted.items;
+        int low = 0;
+        int high = sorted.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].getX() < minX) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void clear() {
+        sorted.clear();
+        indexed.clear();
+        current.clear();
+        maxWidth = 0;
+    }
+}
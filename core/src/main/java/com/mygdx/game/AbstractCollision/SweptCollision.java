@@ -0,0 +1,108 @@
+package com.mygdx.game.AbstractCollision;
+
+/**
+ * Continuous collision tests for entities that may move further than their
+ * own size in one frame.
+ */
+public final class SweptCollision {
+    // Returned when the moving shape never touches the target
+    public static final float NO_HIT = -1f;
+
+    private SweptCollision() {
+        // Static helpers only
+    }
+
+    /**
+     * Finds the first time a moving circle touches an axis-aligned box.
+     * The circle is swept against the box grown by its radius: a slab test
+     * against the grown box gives the entry time, and if that entry lands in a
+     * corner region the exact time comes from the corner's rounded edge.
+     *
+     * @param startX  Circle centre x at the start of the step
+     * @param startY  Circle centre y at the start of the step
+     * @param endX    Circle centre x at the end of the step
+     * @param endY    Circle centre y at the end of the step
+     * @param radius  Circle radius
+     * @param minX    Box left edge
+     * @param minY    Box bottom edge
+     * @param maxX    Box right edge
+     * @param maxY    Box top edge
+     * @return Contact time in [0, 1] along the step, or NO_HIT
+     */
+    public static float circleVsBox(float startX, float startY, float endX, float endY, float radius,
+            float minX, float minY, float maxX, float maxY) {
+        // Already touching at the start of the step
+        float nearestX = Math.max(minX, Math.min(startX, maxX));
+        float nearestY = Math.max(minY, Math.min(startY, maxY));
+        float offsetX = startX - nearestX;
+        float offsetY = startY - nearestY;
+        if (offsetX * offsetX + offsetY * offsetY <= radius * radius) {
+            return 0f;
+        }
+
+        float dx = endX - startX;
+        float dy = endY - startY;
+
+        // Slab test against the box grown by the radius
+        float tEnter = 0f;
+        float tExit = 1f;
+        if (dx == 0f) {
+            if (startX < minX - radius || startX > maxX + radius) {
+                return NO_HIT;
+            }
+        } else {
+            float t1 = (minX - radius - startX) / dx;
+            float t2 = (maxX + radius - startX) / dx;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+        if (dy == 0f) {
+            if (startY < minY - radius || startY > maxY + radius) {
+                return NO_HIT;
+            }
+        } else {
+            float t1 = (minY - radius - startY) / dy;
+            float t2 = (maxY + radius - startY) / dy;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+        if (tEnter > tExit) {
+            return NO_HIT;
+        }
+
+        // Entry on a flat side of the grown box is exact
+        float hitX = startX + dx * tEnter;
+        float hitY = startY + dy * tEnter;
+        boolean outsideX = hitX < minX || hitX > maxX;
+        boolean outsideY = hitY < minY || hitY > maxY;
+        if (!outsideX || !outsideY) {
+            return tEnter;
+        }
+
+        // Entry in a corner region: the true boundary there is a circle around the corner
+        float cornerX = hitX < minX ? minX : maxX;
+        float cornerY = hitY < minY ? minY : maxY;
+        return rayVsCircle(startX, startY, dx, dy, cornerX, cornerY, radius);
+    }
+
+    // Earliest time in [0, 1] at which start + t * (dx, dy) lies on the circle, or NO_HIT
+    private static float rayVsCircle(float startX, float startY, float dx, float dy,
+            float centreX, float centreY, float radius) {
+        float mx = startX - centreX;
+        float my = startY - centreY;
+        float a = dx * dx + dy * dy;
+        float b = mx * dx + my * dy;
+        float c = mx * mx + my * my - radius * radius;
+        if (a == 0f) {
+            return NO_HIT;
+        }
+
+        float discriminant = b * b - a * c;
+        if (discriminant < 0f) {
+            return NO_HIT;
+        }
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / a;
+        return t >= 0f && t <= 1f ? t : NO_HIT;
+    }
+}
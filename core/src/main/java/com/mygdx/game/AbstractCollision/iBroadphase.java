@@ -0,0 +1,18 @@
+package com.mygdx.game.AbstractCollision;
+
+import java.util.List;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AbstractEntity.Entity;
+
+// Strategy that narrows the entities a collision handler has to test exactly
+public interface iBroadphase {
+    // Re-indexes the entities at their current positions; called once per collision pass
+    void update(List<Entity> entities);
+
+    // Collects candidate entities whose bounds may overlap the given area (out is cleared first)
+    void query(float x, float y, float width, float height, Array<Entity> out);
+
+    // Drops every indexed entity
+    void clear();
+}
@@ -1,73 +1,268 @@
 package com.mygdx.game.AbstractEntity;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
-import com.mygdx.game.GameEntity.Spikes;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public abstract class AbstractEntityManager implements iEntityManager {
     // Protected list to store all entities
     protected List<Entity> entities = new ArrayList<>();
+    // Read-only view handed out by getEntities() so reads never copy the list
+    private final List<Entity> entitiesView = Collections.unmodifiableList(entities);
 
-    // Method to update all entities
+    // Per-type buckets mirroring the entities list, keyed by concrete class
+    private final Map<Class<? extends Entity>, EntityBucket> entitiesByType = new HashMap<>();
+    // Same buckets in a list so supertype queries can walk them without an iterator
+    private final List<EntityBucket> buckets = new ArrayList<>();
+
+    // Identity-indexed membership, replacing linear contains() checks
+    private final Set<Entity> members = EntityCommandBuffer.newIdentitySet();
+
+    // Spawns and despawns requested inside a frame or iteration are applied at commit
+    private final EntityCommandBuffer commandBuffer = new EntityCommandBuffer();
+    private int deferDepth = 0;
+
+    // Draw commands collected and sorted during renderEntities
+    private final RenderQueue renderQueue = new RenderQueue();
+
+    // Bucket of entities sharing one concrete class, with a cached read-only view
+    private static class EntityBucket {
+        private final Class<? extends Entity> type;
+        private final List<Entity> members = new ArrayList<>();
+        private final List<Entity> view = Collections.unmodifiableList(members);
+
+        private EntityBucket(Class<? extends Entity> type) {
+            this.type = type;
+        }
+    }
+
+    // Method to update all entities; inactive ones are dropped at the next commit
     @Override
     public void updateEntities(float deltaTime) {
-        for (Entity entity : new ArrayList<>(entities)) {
-            if (entity.isActive()) {
-                entity.update(deltaTime);
-            } else {
-                removeEntity(entity);
+        beginFrame();
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity entity = entities.get(i);
+                if (entity.isActive()) {
+                    entity.update(deltaTime);
+                }
             }
+        } finally {
+            endFrame();
         }
     }
 
     // Method to render all entities using a SpriteBatch
     @Override
     public final void renderEntities(SpriteBatch batch) {
-        for (Entity entity : entities) {
-            entity.draw(batch);
+        renderEntities(batch, 1f);
+    }
+
+    // Renders every entity at its position interpolated between the last two ticks,
+    // sorted by layer and texture so the batch flushes as little as possible
+    @Override
+    public final void renderEntities(SpriteBatch batch, float alpha) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            entity.interpolateDrawPosition(alpha);
+            entity.draw(renderQueue);
+        }
+        renderQueue.flush(batch);
+    }
+
+    // Gets the queue used by renderEntities, whose counters describe the last frame drawn
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    // Snapshots positions so rendering can blend from here to the end of the tick
+    @Override
+    public final void captureRenderPositions() {
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).captureRenderPosition();
         }
     }
 
     // Method to add an entity to the list of entities
     @Override
     public final void addEntity(Entity entity) {
-        // Ensure the entity is not already in the list
-        if (!entities.contains(entity)) {
-            entities.add(entity);
+        // Ensure the entity is not already in the list or queued
+        if (members.contains(entity) || commandBuffer.isSpawnQueued(entity)) {
+            return;
+        }
+
+        if (deferDepth > 0) {
+            commandBuffer.queueSpawn(entity);
+            return;
         }
+
+        insertEntity(entity);
     }
 
     // Method to remove an entity from the list
     public final void removeEntity(Entity entity) {
+        if (deferDepth > 0) {
+            if (commandBuffer.queueDespawn(entity)) {
+                releaseEntity(entity); // Spawn was cancelled before it was ever added
+            }
+            return;
+        }
+
+        if (members.remove(entity)) {
+            entities.remove(entity);
+            bucketFor(entity.getClass()).members.remove(entity);
+            releaseEntity(entity);
+        }
+    }
+
+    // Called once an entity has joined the manager
+    protected void onEntityInserted(Entity entity) {
+    }
+
+    // Called once an entity has left the manager; subclasses may recycle it instead
+    protected void releaseEntity(Entity entity) {
         entity.dispose();
-        entities.remove(entity);
     }
 
-    // Method to get a copy of the list of entities
+    // Opens a frame; spawns and despawns are buffered until the matching endFrame()
+    @Override
+    public final void beginFrame() {
+        deferDepth++;
+    }
+
+    // Closes a frame and commits buffered changes once the outermost frame ends
+    @Override
+    public final void endFrame() {
+        deferDepth--;
+        if (deferDepth == 0) {
+            commitEntityChanges();
+        }
+    }
+
+    // Applies buffered despawns, drops inactive entities and appends buffered spawns
+    private void commitEntityChanges() {
+        // Single compaction pass over the main list
+        int kept = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (entity.isActive() && !commandBuffer.isDespawnQueued(entity)) {
+                entities.set(kept++, entity);
+            } else {
+                members.remove(entity);
+                releaseEntity(entity);
+            }
+        }
+        trimTo(entities, kept);
+
+        // Each bucket keeps only what survived in the main list
+        for (int b = 0; b < buckets.size(); b++) {
+            List<Entity> bucketMembers = buckets.get(b).members;
+            int bucketKept = 0;
+            for (int i = 0; i < bucketMembers.size(); i++) {
+                Entity entity = bucketMembers.get(i);
+                if (members.contains(entity)) {
+                    bucketMembers.set(bucketKept++, entity);
+                }
+            }
+            trimTo(bucketMembers, bucketKept);
+        }
+
+        List<Entity> spawns = commandBuffer.getSpawns();
+        for (int i = 0; i < spawns.size(); i++) {
+            insertEntity(spawns.get(i));
+        }
+        commandBuffer.clear();
+    }
+
+    // Adds an entity to the list, its bucket and the membership set
+    private void insertEntity(Entity entity) {
+        entity.captureRenderPosition(); // New entities start drawn where they are
+        members.add(entity);
+        entities.add(entity);
+        bucketFor(entity.getClass()).members.add(entity);
+        onEntityInserted(entity);
+    }
+
+    // Drops the tail left behind by an in-place compaction
+    private static void trimTo(List<Entity> list, int size) {
+        while (list.size() > size) {
+            list.remove(list.size() - 1);
+        }
+    }
+
+    // Method to get a read-only view of the list of entities
     @Override
     public final List<Entity> getEntities() {
-        return new ArrayList<>(entities); // Return a copy to prevent modification
+        return entitiesView; // Read-only view, so callers cannot modify the list
     }
-    
-    // Implementation of wouldCollideWithSpikes for Player
+
+    // Runs the action on every entity; adds and removes made by the action are buffered
     @Override
-    public boolean wouldCollideWithSpikes(float x, float y, float width, float height) {
-        // Create a temporary rectangle at the potential new position
-        Rectangle potentialPosition = new Rectangle(x, y, width, height);
-
-        // Check for spikes collisions
-        for (Entity entity : entities) {
-            if (entity instanceof Spikes && potentialPosition.overlaps(entity.getBoundingBox())) {
-                return true; // Would collide with a spike
+    public final void forEachEntity(Consumer<? super Entity> action) {
+        beginFrame();
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                action.accept(entities.get(i));
             }
+        } finally {
+            endFrame();
+        }
+    }
+
+    // Gets a read-only list of the entities of the given type (including subclasses)
+    @Override
+    @SuppressWarnings("unchecked")
+    public final <T extends Entity> List<T> getEntitiesOfType(Class<T> type) {
+        boolean hasSubtypes = false;
+        for (int b = 0; b < buckets.size(); b++) {
+            Class<? extends Entity> bucketType = buckets.get(b).type;
+            if (bucketType != type && type.isAssignableFrom(bucketType)) {
+                hasSubtypes = true;
+                break;
+            }
+        }
+
+        // Fast path: only the exact bucket can match, so hand out its cached view
+        if (!hasSubtypes) {
+            EntityBucket exact = entitiesByType.get(type);
+            return exact != null ? (List<T>) exact.view : Collections.<T>emptyList();
+        }
+
+        // Supertype queries span several buckets and need a merged copy
+        List<T> matches = new ArrayList<>();
+        for (int b = 0; b < buckets.size(); b++) {
+            EntityBucket bucket = buckets.get(b);
+            if (type.isAssignableFrom(bucket.type)) {
+                matches.addAll((List<T>) bucket.members);
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    // Gets the first entity of the given type, or null if there is none
+    @Override
+    public final <T extends Entity> T getFirstOfType(Class<T> type) {
+        List<T> matches = getEntitiesOfType(type);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    // Looks up (or creates) the bucket for a concrete entity class
+    private EntityBucket bucketFor(Class<? extends Entity> type) {
+        EntityBucket bucket = entitiesByType.get(type);
+        if (bucket == null) {
+            bucket = new EntityBucket(type);
+            entitiesByType.put(type, bucket);
+            buckets.add(bucket);
         }
-        
-        return false; // No collision would occur
+        return bucket;
     }
 
     @Override
     public abstract void dispose();
-}
\ No newline at end of file
+}
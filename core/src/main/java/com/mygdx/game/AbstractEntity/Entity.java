@@ -3,20 +3,30 @@ package com.mygdx.game.AbstractEntity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class Entity implements iCollidable {
+    // Source of unique entity ids, used to key collision contact pairs
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
     // Make all fields private for proper encapsulation
+    private int id = NEXT_ID.getAndIncrement(); // Unique id, renewed whenever a pooled entity is reused
     private float width = 50, height = 50; // Dimensions of the entity
-    private boolean hasCollided = false; // Flag to determine if the entity has collided with another entity
+    private int collisionCategory = 1; // Collision layer bit(s) this entity belongs to
+    private int collisionMask = ~0; // Layers this entity interacts with (all by default)
     private boolean isActive; // Flag to determine if the entity is active
     private float x, y; // Position in the game world
-    private Rectangle boundingBox; // Cache for bounding box to avoid recreating it frequently
+    private float renderStartX, renderStartY; // Position at the start of the current simulation tick
+    private float drawX, drawY; // Interpolated position used for drawing
+    private final Rectangle bounds = new Rectangle(); // Cached hitbox, refreshed lazily
+    private boolean boundsDirty = true; // Set whenever position or size changes
+    private float hitboxInset = 0; // Hitbox shrink on every side, declared once per subclass
 
     // Constructor to initialise the entity's position and set it as active
     public Entity(float x, float y) {
         this.x = x;
         this.y = y;
         this.isActive = true; // Default to active when created
-        updateBoundingBox(); // Initialize the bounding box
     }
 
     // Abstract method to handle collisions with other collidable entities
@@ -29,22 +39,67 @@ public abstract class Entity implements iCollidable {
     // Abstract method to draw the entity using a SpriteBatch
     public abstract void draw(SpriteBatch batch);
 
+    // Queues the entity for sorted drawing; by default draw(SpriteBatch) runs when the queue is flushed
+    public void draw(RenderQueue queue) {
+        queue.drawEntity(getRenderLayer(), this);
+    }
+
+    // Layer the entity is drawn on; higher layers are drawn on top
+    public int getRenderLayer() {
+        return RenderQueue.DEFAULT_LAYER;
+    }
+
     // Abstract method to update the entity
     public abstract void update(float deltaTime);
 
-    // Private method to update the bounding box when position or size changes
+    // Marks the cached hitbox as stale when position or size changes
     private void updateBoundingBox() {
-        boundingBox = new Rectangle(x, y, width, height);
+        boundsDirty = true;
+    }
+
+    // Shrinks the hitbox by the given amount on every side
+    protected final void setHitboxInset(float inset) {
+        this.hitboxInset = inset;
+        this.boundsDirty = true;
+    }
+
+    public float getHitboxInset() {
+        return hitboxInset;
+    }
+
+    // Rewrites the cached hitbox from the current position and size
+    protected final Rectangle refreshBounds() {
+        bounds.set(getX() + hitboxInset, getY() + hitboxInset,
+                getWidth() - 2 * hitboxInset, getHeight() - 2 * hitboxInset);
+        boundsDirty = false;
+        return bounds;
+    }
+
+    // Getter for the unique entity id
+    public int getId() {
+        return id;
+    }
+
+    // Getter for the collision category bits
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    // Getter for the collision mask bits
+    public int getCollisionMask() {
+        return collisionMask;
     }
 
-    // Getter for collision status
-    public boolean hasCollided() {
-        return hasCollided;
+    // Sets the layer this entity belongs to and the layers it interacts with
+    public void setCollisionFilter(int category, int mask) {
+        this.collisionCategory = category;
+        this.collisionMask = mask;
     }
 
-    // Setter for collision status
-    public void setCollided(boolean collided) {
-        this.hasCollided = collided;
+    // Checks whether two entities may interact at all, before any geometry test
+    public boolean canCollideWith(Entity other) {
+        return (collisionMask & other.collisionCategory) != 0
+                && (other.collisionMask & collisionCategory) != 0;
     }
 
     // Getter for active status
@@ -57,11 +112,44 @@ public abstract class Entity implements iCollidable {
         this.isActive = active;
     }
 
+    /**
+     * Gets the entity's hitbox without copying it.
+     * The rectangle is owned by the entity and reused; callers must treat it as
+     * read-only and must not keep it across moves.
+     */
+    public Rectangle getBounds() {
+        return boundsDirty ? refreshBounds() : bounds;
+    }
+
     // Getter for the bounding box of the entity
     @Override
     public Rectangle getBoundingBox() {
         // Return a copy to prevent external modification
-        return new Rectangle(boundingBox);
+        return new Rectangle(getBounds());
+    }
+
+    // Remembers the current position as the start of the tick being simulated
+    public final void captureRenderPosition() {
+        renderStartX = getX();
+        renderStartY = getY();
+        drawX = renderStartX;
+        drawY = renderStartY;
+    }
+
+    // Blends the draw position between the tick start and the current position
+    public final void interpolateDrawPosition(float alpha) {
+        drawX = renderStartX + (getX() - renderStartX) * alpha;
+        drawY = renderStartY + (getY() - renderStartY) * alpha;
+    }
+
+    // Getter for the x position to draw at
+    public float getDrawX() {
+        return drawX;
+    }
+
+    // Getter for the y position to draw at
+    public float getDrawY() {
+        return drawY;
     }
 
     // Getter for x position
@@ -115,6 +203,12 @@ public abstract class Entity implements iCollidable {
         updateBoundingBox();
     }
 
+    // Restores the default entity state so a pooled instance can be reused
+    protected void resetEntity() {
+        this.isActive = true;
+        this.id = NEXT_ID.getAndIncrement(); // A reused instance must not inherit old contacts
+    }
+
     // Abstract method for resource cleanup
     public abstract void dispose();
 }
\ No newline at end of file
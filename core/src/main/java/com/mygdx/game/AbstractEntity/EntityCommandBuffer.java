@@ -0,0 +1,71 @@
+package com.mygdx.game.AbstractEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Queues entity spawns and despawns requested during a frame so the entity
+ * manager can apply them together at a safe point.
+ */
+class EntityCommandBuffer {
+    private final List<Entity> spawns = new ArrayList<>(); // Spawns in request order
+    private final Set<Entity> spawnSet = newIdentitySet(); // Identity index over spawns
+    private final Set<Entity> despawns = newIdentitySet(); // Entities to drop at commit
+
+    /**
+     * Creates a set that compares entities by identity rather than equals()
+     *
+     * @return An empty identity-based set
+     */
+    static Set<Entity> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<Entity, Boolean>());
+    }
+
+    /**
+     * Queues an entity to be added at the next commit
+     *
+     * @param entity The entity to spawn
+     */
+    void queueSpawn(Entity entity) {
+        if (spawnSet.add(entity)) {
+            spawns.add(entity);
+        }
+    }
+
+    /**
+     * Queues an entity to be removed at the next commit.
+     * Cancels the spawn instead if the entity has not been added yet.
+     *
+     * @param entity The entity to despawn
+     * @return true if a pending spawn was cancelled
+     */
+    boolean queueDespawn(Entity entity) {
+        if (spawnSet.remove(entity)) {
+            spawns.remove(entity);
+            return true;
+        }
+        despawns.add(entity);
+        return false;
+    }
+
+    boolean isSpawnQueued(Entity entity) {
+        return spawnSet.contains(entity);
+    }
+
+    boolean isDespawnQueued(Entity entity) {
+        return despawns.contains(entity);
+    }
+
+    List<Entity> getSpawns() {
+        return spawns;
+    }
+
+    void clear() {
+        spawns.clear();
+        spawnSet.clear();
+        despawns.clear();
+    }
+}
@@ -1,7 +1,7 @@
 package com.mygdx.game.AbstractEntity;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.util.GameWorld;
 
 public abstract class MovableEntity extends Entity implements iMovable {
     // Changed from private to private for consistency
@@ -22,7 +22,7 @@ public abstract class MovableEntity extends Entity implements iMovable {
 
     // Implementation of moveAIControlled method
     @Override
-    public void moveAIControlled() {
+    public void moveAIControlled(float deltaTime) {
         System.out.println("AI moving entity...");
     }
 
@@ -46,8 +46,8 @@ public abstract class MovableEntity extends Entity implements iMovable {
         setY(getY() + speed * deltaTime * directionY);
 
         // Ensure entity stays within screen bounds
-        setX(Math.max(0, Math.min(getX(), Gdx.graphics.getWidth() - getWidth())));
-        setY(Math.max(0, Math.min(getY(), Gdx.graphics.getHeight() - getHeight())));
+        setX(Math.max(0, Math.min(getX(), GameWorld.getWidth() - getWidth())));
+        setY(Math.max(0, Math.min(getY(), GameWorld.getHeight() - getHeight())));
     }
 
     // Method to change direction when entity collides with something horizontally
@@ -92,6 +92,16 @@ public abstract class MovableEntity extends Entity implements iMovable {
         this.directionY = dirY;
     }
 
+    // Restores default movement state for a pooled instance
+    @Override
+    protected void resetEntity() {
+        super.resetEntity();
+        this.previousX = getX();
+        this.previousY = getY();
+        this.directionX = 1;
+        this.directionY = 1;
+    }
+
     // Method to set previous position explicitly (useful for state restoration)
     public void setPreviousPosition(float prevX, float prevY) {
         this.previousX = prevX;
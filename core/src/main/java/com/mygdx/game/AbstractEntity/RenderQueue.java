@@ -0,0 +1,296 @@
+package com.mygdx.game.AbstractEntity;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Collects the draw commands of one frame and submits them sorted by layer,
+ * then texture, then shader, so a SpriteBatch only flushes when one of those
+ * actually changes. Commands that tie keep the order they were queued in.
+ * The number of draw calls then depends on how many layers and textures are
+ * on screen, not on how many entities.
+ */
+public class RenderQueue {
+    public static final int DEFAULT_LAYER = 0;
+
+    // Sort key layout: layer | texture | shader | queue position
+    private static final int ORDER_BITS = 20;
+    private static final int SHADER_BITS = 8;
+    private static final int TEXTURE_BITS = 20;
+    private static final int LAYER_OFFSET = 1 << 14; // Lets layers from -16384 to 16383 sort in order
+
+    private static final byte SPRITE = 0;
+    private static final byte TEXT = 1;
+    private static final byte ENTITY = 2; // Entities that draw straight to the batch
+    private static final byte COMMAND = 3; // Custom drawing, e.g. meshes with their own shader
+
+    // Commands, by queue position
+    private int size;
+    private byte[] kinds = new byte[64];
+    private long[] keys = new long[64];
+    private Texture[] textures = new Texture[64];
+    private TextureRegion[] regions = new TextureRegion[64];
+    private ShaderProgram[] shaders = new ShaderProgram[64];
+    private float[] bounds = new float[64 * 4]; // x, y, width, height
+    private float[] colors = new float[64]; // Packed tint
+    private BitmapFont[] fonts = new BitmapFont[64];
+    private CharSequence[] texts = new CharSequence[64];
+    private Entity[] entities = new Entity[64];
+    private iRenderCommand[] commands = new iRenderCommand[64];
+
+    // Small per-frame ids for textures and shaders, in the order they were first queued
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+    private final ObjectIntMap<ShaderProgram> shaderIds = new ObjectIntMap<>();
+    private ShaderProgram shader; // Shader for commands queued from now on, or null for the batch default
+
+    private final Color tmpColor = new Color();
+
+    // Stats of the last flush
+    private int frame; // Advanced whenever the queue is emptied
+    private int lastCommands;
+    private int lastDrawCalls;
+    private int lastTextureSwitches;
+
+    /**
+     * Sets the shader used by the commands queued after this call
+     *
+     * @param shader The shader, or null for the batch's default
+     */
+    public void setShader(ShaderProgram shader) {
+        this.shader = shader;
+    }
+
+    // Queues a texture drawn untinted
+    public void draw(int layer, Texture texture, float x, float y, float width, float height) {
+        draw(layer, texture, x, y, width, height, Color.WHITE);
+    }
+
+    // Queues a texture drawn with a tint
+    public void draw(int layer, Texture texture, float x, float y, float width, float height, Color tint) {
+        int index = add(SPRITE, layer, texture);
+        textures[index] = texture;
+        setBounds(index, x, y, width, height);
+        colors[index] = tint.toFloatBits();
+    }
+
+    // Queues a texture region drawn untinted at its own size
+    public void draw(int layer, TextureRegion region, float x, float y) {
+        draw(layer, region, x, y, region.getRegionWidth(), region.getRegionHeight(), Color.WHITE);
+    }
+
+    // Queues a texture region drawn untinted
+    public void draw(int layer, TextureRegion region, float x, float y, float width, float height) {
+        draw(layer, region, x, y, width, height, Color.WHITE);
+    }
+
+    // Queues a texture region drawn with a tint
+    public void draw(int layer, TextureRegion region, float x, float y, float width, float height, Color tint) {
+        int index = add(SPRITE, layer, region.getTexture());
+        regions[index] = region;
+        setBounds(index, x, y, width, height);
+        colors[index] = tint.toFloatBits();
+    }
+
+    /**
+     * Queues a line of text. The font's colour is set when the text is drawn,
+     * so fonts shared between entities can be queued with different colours.
+     *
+     * @param layer Layer to draw on
+     * @param font  Font with a single page texture
+     * @param text  Text to draw; must not change before the queue is flushed
+     * @param x     Left edge of the text
+     * @param y     Top of the text
+     * @param color Text colour
+     */
+    public void drawText(int layer, BitmapFont font, CharSequence text, float x, float y, Color color) {
+        int index = add(TEXT, layer, font.getRegion().getTexture());
+        fonts[index] = font;
+        texts[index] = text;
+        setBounds(index, x, y, 0, 0);
+        colors[index] = color.toFloatBits();
+    }
+
+    // Queues an entity whose draw(SpriteBatch) is called when the queue is flushed
+    public void drawEntity(int layer, Entity entity) {
+        int index = add(ENTITY, layer, null);
+        entities[index] = entity;
+    }
+
+    // Queues custom drawing that runs at the layer's place in the sorted order
+    public void drawCommand(int layer, iRenderCommand command) {
+        int index = add(COMMAND, layer, null);
+        commands[index] = command;
+    }
+
+    /**
+     * Draws every queued command in sorted order and empties the queue
+     *
+     * @param batch A batch that has been begun
+     */
+    public void flush(SpriteBatch batch) {
+        try {
+            int startCalls = batch.renderCalls;
+            Arrays.sort(keys, 0, size);
+
+            ShaderProgram defaultShader = batch.getShader();
+            ShaderProgram currentShader = null;
+            Texture currentTexture = null;
+            int textureSwitches = 0;
+            int commandDrawCalls = 0; // Custom commands draw outside the batch's counter
+            float batchColor = batch.getPackedColor();
+
+            for (int i = 0; i < size; i++) {
+                int index = (int) (keys[i] & ((1 << ORDER_BITS) - 1));
+
+                if (shaders[index] != currentShader) {
+                    currentShader = shaders[index];
+                    batch.setShader(currentShader != null ? currentShader : defaultShader);
+                }
+
+                switch (kinds[index]) {
+                    case SPRITE:
+                        Texture texture = regions[index] != null ? regions[index].getTexture() : textures[index];
+                        if (texture != currentTexture) {
+                            currentTexture = texture;
+                            textureSwitches++;
+                        }
+                        batch.setPackedColor(colors[index]);
+                        int b = index * 4;
+                        if (regions[index] != null) {
+                            batch.draw(regions[index], bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3]);
+                        } else {
+                            batch.draw(textures[index], bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3]);
+                        }
+                        break;
+                    case TEXT:
+                        Texture page = fonts[index].getRegion().getTexture();
+                        if (page != currentTexture) {
+                            currentTexture = page;
+                            textureSwitches++;
+                        }
+                        Color.abgr8888ToColor(tmpColor, colors[index]);
+                        fonts[index].setColor(tmpColor);
+                        fonts[index].draw(batch, texts[index], bounds[index * 4], bounds[index * 4 + 1]);
+                        break;
+                    case COMMAND:
+                        batch.flush(); // Everything queued before the command must be drawn under it
+                        commands[index].render(batch);
+                        commandDrawCalls++;
+                        currentTexture = null; // Unknown, so count the next texture as a switch
+                        break;
+                    default:
+                        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+                        entities[index].draw(batch);
+                        currentTexture = null; // Unknown, so count the next texture as a switch
+                        break;
+                }
+            }
+
+            // Leave the batch as it was found
+            batch.setPackedColor(batchColor);
+            if (currentShader != null) {
+                batch.setShader(defaultShader);
+            }
+            batch.flush();
+
+            lastCommands = size;
+            lastDrawCalls = batch.renderCalls - startCalls + commandDrawCalls;
+            lastTextureSwitches = textureSwitches;
+        } finally {
+            clear(); // Never carry commands into the next frame, even if one failed
+        }
+    }
+
+    // Drops every queued command without drawing it
+    public void clear() {
+        Arrays.fill(textures, 0, size, null);
+        Arrays.fill(regions, 0, size, null);
+        Arrays.fill(shaders, 0, size, null);
+        Arrays.fill(fonts, 0, size, null);
+        Arrays.fill(texts, 0, size, null);
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(commands, 0, size, null);
+        size = 0;
+        textureIds.clear();
+        shaderIds.clear();
+        frame++;
+    }
+
+    // Identifies the current frame's commands; changes once they are flushed or cleared
+    public int getFrame() {
+        return frame;
+    }
+
+    // Number of commands drawn by the last flush
+    public int getCommandCount() {
+        return lastCommands;
+    }
+
+    // Number of GPU draw calls (batch flushes) made by the last flush
+    public int getDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    // Number of times the last flush moved to a different texture
+    public int getTextureSwitches() {
+        return lastTextureSwitches;
+    }
+
+    // Adds a command and builds its sort key; returns its queue position
+    private int add(byte kind, int layer, Texture texture) {
+        if (size == kinds.length) {
+            grow();
+        }
+        int index = size++;
+        kinds[index] = kind;
+        shaders[index] = shader;
+
+        long textureId = texture == null ? 0 : idOf(textureIds, texture);
+        long shaderId = shader == null ? 0 : idOf(shaderIds, shader);
+        keys[index] = ((long) (layer + LAYER_OFFSET) << (ORDER_BITS + SHADER_BITS + TEXTURE_BITS))
+                | (textureId << (ORDER_BITS + SHADER_BITS))
+                | (shaderId << ORDER_BITS)
+                | index;
+        return index;
+    }
+
+    // Gets the per-frame id of a texture or shader, starting at 1 so 0 can mean none
+    private static <T> int idOf(ObjectIntMap<T> ids, T key) {
+        int id = ids.get(key, 0);
+        if (id == 0) {
+            id = ids.size + 1;
+            ids.put(key, id);
+        }
+        return id;
+    }
+
+    private void setBounds(int index, float x, float y, float width, float height) {
+        int b = index * 4;
+        bounds[b] = x;
+        bounds[b + 1] = y;
+        bounds[b + 2] = width;
+        bounds[b + 3] = height;
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        textures = Arrays.copyOf(textures, capacity);
+        regions = Arrays.copyOf(regions, capacity);
+        shaders = Arrays.copyOf(shaders, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * 4);
+        colors = Arrays.copyOf(colors, capacity);
+        fonts = Arrays.copyOf(fonts, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        commands = Arrays.copyOf(commands, capacity);
+    }
+}
@@ -1,20 +1,17 @@
 package com.mygdx.game.AbstractEntity;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.Gdx;
+import com.mygdx.game.util.AssetManager;
 
 public class StaticObject extends Entity {
-    protected Texture texture; // Texture for rendering the static object
-    protected Rectangle boundingBox; // Bounding box for collision detection
+    protected TextureRegion sprite; // Sprite for rendering the static object
 
     public StaticObject(float x, float y, float width, float height, String texturePath) {
         super(x, y); // Call parent constructor
-        this.texture = new Texture(Gdx.files.internal(texturePath)); // Load texture from file
+        this.sprite = AssetManager.getInstance().getSprite(texturePath); // Shared, from the sprite atlas if packed
         setWidth(width);
         setHeight(height);
-        this.boundingBox = new Rectangle(getX(), getY(), getWidth(), getHeight()); // Create bounding box for collisions
     }
 
     @Override
@@ -25,9 +22,16 @@ public class StaticObject extends Entity {
     // Method to draw the static object using a SpriteBatch
     @Override
     public void draw(SpriteBatch batch) {
-        if (texture != null) {
-            // Draw the texture at the object's position with its bounding box dimensions
-            batch.draw(texture, getX(), getY(), getWidth(), getHeight());
+        if (sprite != null) {
+            // Draw the sprite at the object's position with its bounding box dimensions
+            batch.draw(sprite, getDrawX(), getDrawY(), getWidth(), getHeight());
+        }
+    }
+
+    @Override
+    public void draw(RenderQueue queue) {
+        if (sprite != null) {
+            queue.draw(getRenderLayer(), sprite, getDrawX(), getDrawY(), getWidth(), getHeight());
         }
     }
 
@@ -41,18 +45,9 @@ public class StaticObject extends Entity {
     public void handleCollision(iCollidable other) {
     }
 
-    @Override
-    public Rectangle getBoundingBox() {
-        // Ensure the bounding box is updated with the current position
-        boundingBox.setPosition(getX(), getY());
-        boundingBox.setSize(getWidth(), getHeight());
-        return boundingBox; // Return the updated bounding box
-    }
-
     @Override
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        // The sprite is shared through the AssetManager and released by the owning scene
+        sprite = null;
     }
 }
\ No newline at end of file
@@ -3,19 +3,36 @@ package com.mygdx.game.AbstractEntity;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface iEntityManager {
+    // Read-only live view; adds and removes made inside a frame are buffered
     List<Entity> getEntities();
 
+    void forEachEntity(Consumer<? super Entity> action);
+
+    // Typed queries backed by per-type buckets
+    <T extends Entity> List<T> getEntitiesOfType(Class<T> type);
+
+    <T extends Entity> T getFirstOfType(Class<T> type);
+
     // Existing methods
     void addEntity(Entity entity);
 
     void updateEntities(float deltaTime);
 
+    // Frame bracket: buffered spawns and despawns are applied by the outermost endFrame()
+    void beginFrame();
+
+    void endFrame();
+
     void renderEntities(SpriteBatch batch);
 
-    // New methods required by Player
-    boolean wouldCollideWithSpikes(float x, float y, float width, float height);
+    // Renders entities blended between their last two simulation ticks (alpha 0..1)
+    void renderEntities(SpriteBatch batch, float alpha);
+
+    // Records every entity's position at the start of a simulation tick
+    void captureRenderPositions();
 
     void dispose();
 
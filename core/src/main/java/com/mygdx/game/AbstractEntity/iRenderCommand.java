@@ -0,0 +1,17 @@
+package com.mygdx.game.AbstractEntity;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Custom drawing queued in a RenderQueue, e.g. a mesh drawn with its own
+ * shader. It runs at its layer's place in the sorted order.
+ */
+public interface iRenderCommand {
+    /**
+     * Draws the command
+     *
+     * @param batch The queue's batch, begun and flushed up to this command;
+     *              restore its shader and matrices before returning
+     */
+    void render(SpriteBatch batch);
+}
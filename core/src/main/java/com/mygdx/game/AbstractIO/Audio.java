@@ -70,6 +70,7 @@ public class Audio extends AudioHandler {
     }
 
     // Method to pause the background music
+    @Override
     public void pauseMusic() {
         if (gameMusic.isPlaying()) { // Only pause if the music is actually playing
             gameMusic.pause();
@@ -80,6 +81,7 @@ public class Audio extends AudioHandler {
     }
 
     // Method to resume the background music
+    @Override
     public void resumeMusic() {
         if (!gameMusic.isPlaying()) { // Only resume if the music is not playing
             gameMusic.play();
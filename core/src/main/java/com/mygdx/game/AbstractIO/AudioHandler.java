@@ -5,6 +5,7 @@ public abstract class AudioHandler {
     public abstract void playMusic();
     public abstract void stopMusic();
     public abstract void pauseMusic();
+    public abstract void resumeMusic();
     public abstract boolean isPlayingMusic();
     public abstract void setMusicName(String musicName);
     public abstract void setVolume(float volume);
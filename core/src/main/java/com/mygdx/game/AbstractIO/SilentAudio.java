@@ -0,0 +1,70 @@
+package com.mygdx.game.AbstractIO;
+
+/**
+ * Audio sink that plays nothing, for running the game without an audio device
+ */
+public class SilentAudio extends AudioHandler {
+    private float volume = 0;
+    private boolean loop = false;
+
+    @Override
+    public void playMusic() {
+    }
+
+    @Override
+    public void stopMusic() {
+    }
+
+    @Override
+    public void pauseMusic() {
+    }
+
+    @Override
+    public void resumeMusic() {
+    }
+
+    @Override
+    public boolean isPlayingMusic() {
+        return false;
+    }
+
+    @Override
+    public void setMusicName(String musicName) {
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        this.volume = Math.max(0, Math.min(volume, 1.0f));
+    }
+
+    @Override
+    public float getVolume() {
+        return volume;
+    }
+
+    @Override
+    public void setLoop(boolean loop) {
+        this.loop = loop;
+    }
+
+    @Override
+    public boolean getLoop() {
+        return loop;
+    }
+
+    @Override
+    public void loadSoundEffect(String key, String filePath) {
+    }
+
+    @Override
+    public void playSoundEffect(String key) {
+    }
+
+    @Override
+    public void setSoundEffectVolume(String key, float volume) {
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.mygdx.game.GameCollision;
+
+/**
+ * Collision categories and masks for the game entities.
+ * Two entities are only tested against each other when each one's mask
+ * contains the other's category, so new entity types just need a bit here.
+ */
+public final class CollisionLayers {
+    // Categories (one bit each)
+    public static final int NONE = 0;
+    public static final int PLAYER = 1;
+    public static final int BALLOON = 1 << 1;
+    public static final int SPIKES = 1 << 2;
+    public static final int POWERUP = 1 << 3;
+
+    // Masks: the categories each entity type interacts with
+    public static final int PLAYER_MASK = SPIKES | BALLOON | POWERUP;
+    public static final int BALLOON_MASK = PLAYER | SPIKES;
+    public static final int SPIKES_MASK = PLAYER | BALLOON;
+    public static final int POWERUP_MASK = PLAYER;
+
+    private CollisionLayers() {
+        // Constants holder
+    }
+}
@@ -0,0 +1,65 @@
+package com.mygdx.game.GameCollision;
+
+import com.mygdx.game.GamePowerups.PowerUpType;
+
+/**
+ * Counts the gameplay contacts handled by the collision manager, so
+ * simulations can report more than the final score
+ */
+public class CollisionStats {
+    private int playerSpikesHits; // Times the player walked into spikes
+    private int balloonsCollected; // Balloons the player reached
+    private int balloonsLostToSpikes; // Balloons popped by spikes
+    private final int[] powerUpsCollected = new int[PowerUpType.values().length]; // By type ordinal
+
+    void recordPlayerSpikesHit() {
+        playerSpikesHits++;
+    }
+
+    void recordBalloonCollected() {
+        balloonsCollected++;
+    }
+
+    void recordBalloonLostToSpikes() {
+        balloonsLostToSpikes++;
+    }
+
+    void recordPowerUpCollected(PowerUpType type) {
+        powerUpsCollected[type.ordinal()]++;
+    }
+
+    public int getPlayerSpikesHits() {
+        return playerSpikesHits;
+    }
+
+    public int getBalloonsCollected() {
+        return balloonsCollected;
+    }
+
+    public int getBalloonsLostToSpikes() {
+        return balloonsLostToSpikes;
+    }
+
+    public int getPowerUpsCollected(PowerUpType type) {
+        return powerUpsCollected[type.ordinal()];
+    }
+
+    // Total power-ups collected of every type
+    public int getPowerUpsCollected() {
+        int total = 0;
+        for (int count : powerUpsCollected) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Clears every counter, e.g. when a new game starts
+    public void reset() {
+        playerSpikesHits = 0;
+        balloonsCollected = 0;
+        balloonsLostToSpikes = 0;
+        for (int i = 0; i < powerUpsCollected.length; i++) {
+            powerUpsCollected[i] = 0;
+        }
+    }
+}
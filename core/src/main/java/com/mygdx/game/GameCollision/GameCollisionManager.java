@@ -1,55 +1,78 @@
 package com.mygdx.game.GameCollision;
 
-import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.AbstractCollision.AbstractCollisionManager;
+import com.mygdx.game.AbstractCollision.ContactEvent;
+import com.mygdx.game.AbstractCollision.ContactEventBuffer;
+import com.mygdx.game.AbstractCollision.ContactPhase;
+import com.mygdx.game.AbstractCollision.SpatialHashGrid;
+import com.mygdx.game.AbstractCollision.SweptCollision;
+import com.mygdx.game.AbstractCollision.iBroadphase;
 import com.mygdx.game.AbstractEntity.Entity;
 import com.mygdx.game.AbstractEntity.iEntityManager;
 import com.mygdx.game.AbstractIO.Audio;
+import com.mygdx.game.AbstractIO.AudioHandler;
 import com.mygdx.game.GameEntity.Balloon;
 import com.mygdx.game.GameEntity.GameEntityManager;
 import com.mygdx.game.GameEntity.Player;
 import com.mygdx.game.GameEntity.PowerUp;
 import com.mygdx.game.GameEntity.Spikes;
 import com.mygdx.game.GameEntity.iEntityScoreHandler;
+import com.mygdx.game.util.GameLog;
 
 public class GameCollisionManager extends AbstractCollisionManager {
-    private final Audio audio = Audio.getInstance(); // Singleton instance of Audio class
+    private final AudioHandler audio; // Plays collision sound effects
     private iEntityScoreHandler scoreHandler; // Reference to score handler instead of GameScene
-    private Circle tempCircle = new Circle(); // Reusable circle for collision detection
+    // Cell size a little above the 50px spikes and balloon hitboxes, so most entities touch 1-4 cells
+    private static final float GRID_CELL_SIZE = 64f;
+    private final Array<Entity> candidates = new Array<>(false, 16); // Reusable query results
+    private final CollisionStats stats = new CollisionStats(); // Counts of handled contacts
 
     public GameCollisionManager(iEntityManager entityManager) {
-        super(entityManager);
+        this(entityManager, null);
     }
     
     // Additional constructor that takes a reference to the EntityScoreHandler
     public GameCollisionManager(iEntityManager entityManager, iEntityScoreHandler scoreHandler) {
-        super(entityManager);
+        this(entityManager, scoreHandler, new SpatialHashGrid(GRID_CELL_SIZE));
+    }
+
+    // Constructor that also selects the broadphase, e.g. for benchmarking strategies
+    public GameCollisionManager(iEntityManager entityManager, iEntityScoreHandler scoreHandler,
+            iBroadphase broadphase) {
+        this(entityManager, scoreHandler, broadphase, Audio.getInstance());
+    }
+
+    // Constructor that also selects the audio sink, e.g. silent audio for headless runs
+    public GameCollisionManager(iEntityManager entityManager, iEntityScoreHandler scoreHandler,
+            iBroadphase broadphase, AudioHandler audio) {
+        super(entityManager, broadphase);
         this.scoreHandler = scoreHandler;
+        this.audio = audio;
     }
 
     @Override
     protected void handleCollision(Entity entity) {
-        // Improved spikes collision handling for players
+        // Player contacts with spikes, balloons and power-ups
         if (entity instanceof Player) {
             Player player = (Player) entity;
-            
-            // Access the entity manager through the protected getter
-            iEntityManager entityManager = getEntityManager();
+
+            // Candidates near both the current and previous position, since a spikes hit moves the player back
+            float minX = Math.min(player.getX(), player.getPreviousX());
+            float minY = Math.min(player.getY(), player.getPreviousY());
+            float maxX = Math.max(player.getX(), player.getPreviousX()) + player.getWidth();
+            float maxY = Math.max(player.getY(), player.getPreviousY()) + player.getHeight();
+            queryCandidates(player, minX, minY, maxX - minX, maxY - minY, candidates);
 
             // First check for spikes collisions
-            boolean hasSpikesCollision = false;
-            for (Entity other : entityManager.getEntities()) {
-                if (other instanceof Spikes && player.getBoundingBox().overlaps(other.getBoundingBox())) {
-                    hasSpikesCollision = true;
-
-                    // Play sound if this is a new collision
-                    if (!player.hasCollided()) {
-                        player.handleCollision((Spikes) other);
-                        audio.playSoundEffect("spikes");
-                        player.setCollided(true);
-                    }
+            for (int i = 0; i < candidates.size; i++) {
+                Entity other = candidates.get(i);
+                if ((other.getCollisionCategory() & CollisionLayers.SPIKES) == 0) {
+                    continue;
+                }
+                if (player.getBounds().overlaps(other.getBounds())) {
+                    reportContact(player, other);
 
                     // Move player back to previous position before collision
                     player.setX(player.getPreviousX());
@@ -58,182 +81,192 @@ public class GameCollisionManager extends AbstractCollisionManager {
                 }
             }
 
-            // Reset collision state when no longer colliding with any spikes
-            if (!hasSpikesCollision && player.hasCollided()) {
-                player.setCollided(false);
-            }
-
             // After handling spikes collisions, check for balloon collisions
-            Balloon collidedBalloon = null;
-            for (Entity other : entityManager.getEntities()) {
-                if (other instanceof Balloon && other.isActive() && player.getBoundingBox().overlaps(other.getBoundingBox())) {
-                    collidedBalloon = (Balloon) other;
+            for (int i = 0; i < candidates.size; i++) {
+                Entity other = candidates.get(i);
+                if ((other.getCollisionCategory() & CollisionLayers.BALLOON) == 0) {
+                    continue;
+                }
+                if (other.isActive() && player.getBounds().overlaps(other.getBounds())) {
+                    reportContact(player, other);
                     break; // Only handle first collision
                 }
             }
 
-            if (collidedBalloon != null) {
-                // Get the balloon's value before processing collision
-                int balloonValue = collidedBalloon.getValue();
+            // Check for power-up collisions
+            for (int i = 0; i < candidates.size; i++) {
+                Entity other = candidates.get(i);
+                if ((other.getCollisionCategory() & CollisionLayers.POWERUP) == 0) {
+                    continue;
+                }
+                if (other.isActive() && player.getBounds().overlaps(other.getBounds())) {
+                    reportContact(player, other);
+                    break; // Only detect first collision
+                }
+            }
+        }
 
-                // Add Balloon's value to the Player's score
-                player.handleCollision(collidedBalloon);
+        // Balloon and Spikes collision: swept circle against each nearby spikes hitbox
+        if (entity instanceof Balloon) {
+            Balloon balloon = (Balloon) entity;
+            queryBalloonSweep(balloon);
+
+            float radius = Balloon.getBalloonRadius();
+            float endX = balloon.getX() + radius;
+            float endY = balloon.getY() + radius;
+            float startX = endX;
+            float startY = endY;
+            // Previous position of (0,0) means the balloon has not moved yet
+            if (balloon.getPreviousX() != 0 || balloon.getPreviousY() != 0) {
+                startX = balloon.getPreviousX() + radius;
+                startY = balloon.getPreviousY() + radius;
+            }
 
-                // Update score in scoreHandler if available - add only this individual balloon's value
-                if (scoreHandler != null) {
-                    scoreHandler.addScore(balloonValue);
+            for (int i = 0; i < candidates.size; i++) {
+                Entity spikes = candidates.get(i);
+                if ((spikes.getCollisionCategory() & CollisionLayers.SPIKES) == 0) {
+                    continue;
                 }
+                Rectangle hitbox = spikes.getBounds();
+                float contactTime = SweptCollision.circleVsBox(startX, startY, endX, endY, radius,
+                        hitbox.x, hitbox.y, hitbox.x + hitbox.width, hitbox.y + hitbox.height);
 
-                // Call removeBalloonRow() from GameEntityManager to remove all balloons in the same row
-                if (entityManager instanceof GameEntityManager) {
-                    ((GameEntityManager) entityManager).removeBalloonRow(collidedBalloon);
+                if (contactTime != SweptCollision.NO_HIT) {
+                    reportContact(balloon, spikes);
+                    return; // One spikes is enough to pop the balloon
                 }
+            }
+        }
+    }
 
-                // Play collision sound
-                audio.playSoundEffect("player");
-
-                // Spawn the next row of balloons
-                if (entityManager instanceof GameEntityManager) {
-                    ((GameEntityManager) entityManager).spawnBalloonsRow();
-                }
+    @Override
+    protected void processContacts(ContactEventBuffer events) {
+        // Gameplay reacts when a contact starts; persisting and ending contacts need no action
+        for (int i = 0; i < events.size(); i++) {
+            ContactEvent event = events.get(i);
+            if (event.getPhase() != ContactPhase.BEGIN) {
+                continue;
             }
 
-            // Check for power-up collisions
-            PowerUp collidedPowerUp = null;
-            for (Entity other : entityManager.getEntities()) {
-                if (other instanceof PowerUp && player.getBoundingBox().overlaps(other.getBoundingBox())) {
-                    collidedPowerUp = (PowerUp) other;
-                    break; // Only detect first collision
+            Entity first = event.getFirst();
+            Entity second = event.getSecond();
+            if (first instanceof Player) {
+                Player player = (Player) first;
+                if (second instanceof Spikes) {
+                    onPlayerHitSpikes(player, (Spikes) second);
+                } else if (second instanceof Balloon) {
+                    onPlayerHitBalloon(player, (Balloon) second);
+                } else if (second instanceof PowerUp) {
+                    onPlayerCollectPowerUp((PowerUp) second);
                 }
+            } else if (first instanceof Balloon && second instanceof Spikes) {
+                onBalloonHitSpikes((Balloon) first);
             }
+        }
+    }
 
-            if (collidedPowerUp != null) {
-                // Get the position where the effect should appear
-                float effectX = collidedPowerUp.getX();
-                float effectY = collidedPowerUp.getY();
+    // Player walked into spikes; it was already moved back during detection
+    private void onPlayerHitSpikes(Player player, Spikes spikes) {
+        player.handleCollision(spikes);
+        stats.recordPlayerSpikesHit();
+        audio.playSoundEffect("spikes");
+    }
 
-                // Process power-up effect through the scoreHandler if available
-                if (scoreHandler != null) {
-                    scoreHandler.processPowerUp(collidedPowerUp.getType(), effectX, effectY);
-                }
+    // Player reached a balloon: score it, clear its row and spawn the next one
+    private void onPlayerHitBalloon(Player player, Balloon balloon) {
+        // A spikes contact earlier in this pass may already have popped it
+        if (!balloon.isActive()) {
+            return;
+        }
+        iEntityManager entityManager = getEntityManager();
 
-                // Mark power-up as collected
-                collidedPowerUp.setActive(false);
+        // Get the balloon's value before processing collision
+        int balloonValue = balloon.getValue();
 
-                // Play power-up sound effect - different sound for debuffs
-                if (collidedPowerUp.isDebuff()) {
-                    audio.playSoundEffect("debuff");
-                } else {
-                    audio.playSoundEffect("powerup");
-                }
-            }
+        // Add Balloon's value to the Player's score
+        player.handleCollision(balloon);
+        stats.recordBalloonCollected();
+
+        // Update score in scoreHandler if available - add only this individual balloon's value
+        if (scoreHandler != null) {
+            scoreHandler.addScore(balloonValue);
         }
 
-        // Enhanced Balloon and Spikes collision with multi-layered approach
-        if (entity instanceof Balloon) {
-            Balloon balloon = (Balloon) entity;
-            iEntityManager entityManager = getEntityManager();
-
-            for (Entity other : entityManager.getEntities()) {
-                if (other instanceof Spikes) {
-                    Spikes spikes = (Spikes) other;
-
-                    // 1. Standard bounding box check
-                    if (balloon.getBoundingBox().overlaps(spikes.getBoundingBox())) {
-                        balloon.setActive(false);
-                        System.out.println("Balloon collided with spike (direct hit)");
-                        audio.playSoundEffect("spikes");
-                        return; // Exit early if collision detected
-                    }
-
-                    // 2. Circle-Rectangle intersection check
-                    // This is more accurate for round balloons
-                    float balloonCenterX = balloon.getX() + Balloon.getBalloonRadius();
-                    float balloonCenterY = balloon.getY() + Balloon.getBalloonRadius();
-                    tempCircle.set(balloonCenterX, balloonCenterY, Balloon.getBalloonRadius());
-
-                    if (Intersector.overlaps(tempCircle, spikes.getBoundingBox())) {
-                        balloon.setActive(false);
-                        System.out.println("Balloon collided with spike (circle-rect)");
-                        audio.playSoundEffect("spikes");
-                        return; // Exit early if collision detected
-                    }
-
-                    // 3. Path-based collision detection
-                    // Get previous position
-                    float prevX = balloon.getPreviousX();
-                    float prevY = balloon.getPreviousY();
-
-                    // If previous position is valid (not 0,0)
-                    if (prevX != 0 || prevY != 0) {
-                        float currentX = balloon.getX();
-                        float currentY = balloon.getY();
-
-                        // Check if path intersects with spike
-                        if (lineIntersectsRectangle(
-                                prevX + Balloon.getBalloonRadius(), prevY + Balloon.getBalloonRadius(),
-                                currentX + Balloon.getBalloonRadius(), currentY + Balloon.getBalloonRadius(),
-                                spikes.getBoundingBox())) {
-                            balloon.setActive(false);
-                            System.out.println("Balloon collided with spike (path intersection)");
-                            audio.playSoundEffect("spikes");
-                            return; // Exit early if collision detected
-                        }
-
-                        // 4. Distance-based check (extra safety)
-                        // Check if balloon is close enough to spike to warrant extra checks
-                        float spikesLeft = spikes.getX();
-                        float spikesRight = spikes.getX() + spikes.getWidth();
-
-                        // If balloon is moving downward and crosses the spike's horizontal bounds
-                        if (prevY > currentY && // Moving downward
-                                ((prevX + Balloon.getBalloonWidth() < spikesLeft && currentX + Balloon.getBalloonWidth() >= spikesLeft)
-                                        || // Moving right into spike
-                                        (prevX > spikesRight && currentX <= spikesRight))) { // Moving left into spike
-
-                            // If balloon is just above the spike, it's likely to collide next frame
-                            if (Math.abs(currentY - (spikes.getY() + spikes.getHeight())) < Balloon.getBalloonWidth()) {
-                                balloon.setActive(false);
-                                System.out.println("Balloon collided with spike (predictive)");
-                                audio.playSoundEffect("spikes");
-                                return;
-                            }
-                        }
-                    }
-                }
-            }
+        // Call removeBalloonRow() from GameEntityManager to remove all balloons in the same row
+        if (entityManager instanceof GameEntityManager) {
+            ((GameEntityManager) entityManager).removeBalloonRow(balloon);
+        }
+
+        // Play collision sound
+        audio.playSoundEffect("player");
+
+        // Spawn the next row of balloons
+        if (entityManager instanceof GameEntityManager) {
+            ((GameEntityManager) entityManager).spawnBalloonsRow();
         }
     }
 
-    /**
-     * Determines if a line intersects with a rectangle
-     * This helps detect if a fast-moving balloon passes through a spike
-     */
-    private boolean lineIntersectsRectangle(float x1, float y1, float x2, float y2, Rectangle rect) {
-        // Check if the line intersects any of the rectangle's edges
-        return lineLine(x1, y1, x2, y2, rect.x, rect.y, rect.x + rect.width, rect.y) ||
-                lineLine(x1, y1, x2, y2, rect.x + rect.width, rect.y, rect.x + rect.width, rect.y + rect.height) ||
-                lineLine(x1, y1, x2, y2, rect.x + rect.width, rect.y + rect.height, rect.x, rect.y + rect.height) ||
-                lineLine(x1, y1, x2, y2, rect.x, rect.y + rect.height, rect.x, rect.y);
+    // Player picked up a power-up
+    private void onPlayerCollectPowerUp(PowerUp powerUp) {
+        if (!powerUp.isActive()) {
+            return;
+        }
+
+        // Process power-up effect through the scoreHandler if available
+        if (scoreHandler != null) {
+            scoreHandler.processPowerUp(powerUp.getType(), powerUp.getX(), powerUp.getY());
+        }
+
+        // Mark power-up as collected
+        powerUp.setActive(false);
+        stats.recordPowerUpCollected(powerUp.getType());
+
+        // Play power-up sound effect - different sound for debuffs
+        if (powerUp.isDebuff()) {
+            audio.playSoundEffect("debuff");
+        } else {
+            audio.playSoundEffect("powerup");
+        }
     }
-    
+
+    // Balloon ran into spikes and pops
+    private void onBalloonHitSpikes(Balloon balloon) {
+        if (!balloon.isActive()) {
+            return;
+        }
+        balloon.setActive(false);
+        stats.recordBalloonLostToSpikes();
+        GameLog.info("Balloon collided with spike");
+        audio.playSoundEffect("spikes");
+    }
+
     /**
-     * Determines if two line segments intersect
+     * Collects the spikes candidates a balloon could reach this frame.
+     * Covers the balloon circle over its whole path from the previous position.
      */
-    private boolean lineLine(float x1, float y1, float x2, float y2, float x3, float y3, float x4, float y4) {
-        // Calculate the direction of the lines
-        float denominator = ((y4 - y3) * (x2 - x1) - (x4 - x3) * (y2 - y1));
-
-        // Lines are parallel or coincident
-        if (denominator == 0) {
-            return false;
+    private void queryBalloonSweep(Balloon balloon) {
+        float extent = Math.max(Balloon.getBalloonWidth(), Math.max(balloon.getWidth(), balloon.getHeight()));
+        float minX = balloon.getX();
+        float minY = balloon.getY();
+        float maxX = minX;
+        float maxY = minY;
+
+        // Previous position of (0,0) means the balloon has not moved yet
+        float prevX = balloon.getPreviousX();
+        float prevY = balloon.getPreviousY();
+        if (prevX != 0 || prevY != 0) {
+            minX = Math.min(minX, prevX);
+            minY = Math.min(minY, prevY);
+            maxX = Math.max(maxX, prevX);
+            maxY = Math.max(maxY, prevY);
         }
 
-        float uA = ((x4 - x3) * (y1 - y3) - (y4 - y3) * (x1 - x3)) / denominator;
-        float uB = ((x2 - x1) * (y1 - y3) - (y2 - y1) * (x1 - x3)) / denominator;
+        queryCandidates(balloon, minX, minY, maxX - minX + extent, maxY - minY + extent, candidates);
+    }
 
-        // If uA and uB are between 0-1, lines are colliding
-        return (uA >= 0 && uA <= 1 && uB >= 0 && uB <= 1);
+    // Gets the contact counters; callers reset them when a new game starts
+    public CollisionStats getStats() {
+        return stats;
     }
 
     // Set the score handler (useful for changing scenes)
@@ -243,6 +276,8 @@ public class GameCollisionManager extends AbstractCollisionManager {
 
     @Override
     public void dispose() {
-        // Cleanup logic if necessary
+        getBroadphase().clear();
+        clearContacts();
+        candidates.clear();
     }
 }
\ No newline at end of file
@@ -15,4 +15,28 @@ public interface iCollisionCallback {
      * @return true if the position would collide with spikes
      */
     boolean wouldCollideWithSpikes(float x, float y, float width, float height);
-}
\ No newline at end of file
+
+    /**
+     * Moves a box horizontally as far as it can go without entering spikes
+     *
+     * @param x The current x position
+     * @param y The current y position
+     * @param width The width of the entity
+     * @param height The height of the entity
+     * @param dx The requested horizontal displacement
+     * @return The displacement that stops at the first spikes in the way
+     */
+    float sweepAgainstSpikesX(float x, float y, float width, float height, float dx);
+
+    /**
+     * Moves a box vertically as far as it can go without entering spikes
+     *
+     * @param x The current x position
+     * @param y The current y position
+     * @param width The width of the entity
+     * @param height The height of the entity
+     * @param dy The requested vertical displacement
+     * @return The displacement that stops at the first spikes in the way
+     */
+    float sweepAgainstSpikesY(float x, float y, float width, float height, float dy);
+}
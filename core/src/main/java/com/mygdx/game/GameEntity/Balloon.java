@@ -1,17 +1,22 @@
 package com.mygdx.game.GameEntity;
 
-import java.util.Random;
-
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.AbstractEntity.MovableEntity;
+import com.mygdx.game.AbstractEntity.RenderQueue;
 import com.mygdx.game.AbstractEntity.iCollidable;
-import com.mygdx.game.GameState.GameSettings;
-
-public class Balloon extends MovableEntity {
+import com.mygdx.game.GameCollision.CollisionLayers;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.AssetManager;
+import com.mygdx.game.util.GameRandom;
+import com.mygdx.game.util.GameWorld;
+import com.mygdx.game.util.RandomStream;
+
+public class Balloon extends MovableEntity implements Pool.Poolable {
     private int value; // Numeric value of the balloon
     private String displayText; // Text displayed on the balloon
     private boolean usesMathOperation; // Whether this balloon displays a math operation
@@ -20,93 +25,229 @@ public class Balloon extends MovableEntity {
 
     private boolean collected = false; // Whether the balloon has been collected
     private boolean isFalling = false; // Whether the balloon is currently falling
+    private BalloonRow row; // Row this balloon is cleared and detected with
+    private BalloonMotionSystem motion; // System holding this balloon's position while bound
+    private int motionSlot = -1; // Slot in the motion system, or -1 when unbound
 
-    private Texture balloonTexture; // Texture for the balloon
+    private TextureRegion balloonSprite; // Sprite for the balloon
+
+    public static final float FALL_SPEED = 100f; // Falling speed in pixels per second
 
     // Constants for balloon dimensions and spacing
     private static final int NUM_BALLOONS = 8;
     private static final float GAP_RATIO = 0.1f;
-    private static final float SCREEN_WIDTH = Gdx.graphics.getWidth();
+    private static final float SCREEN_WIDTH = GameWorld.getWidth();
     private static final float BALLOON_WIDTH = SCREEN_WIDTH / (NUM_BALLOONS + (NUM_BALLOONS - 1) * GAP_RATIO);
     private static final float BALLOON_RADIUS = BALLOON_WIDTH / 2;
 
     private BitmapFont font; // Font for displaying text on the balloon
-    private static final Random random = new Random(); // Random number generator for balloon
 
-    // Different balloon colors for visual variety
-    private static final Color[] BALLOON_COLORS = {
+    // Different balloon colors for visual variety; also the palette of BalloonInstanceRenderer
+    static final Color[] BALLOON_COLORS = {
             Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW,
             Color.PINK, Color.CYAN, Color.ORANGE, Color.PURPLE
     };
     private Color balloonColor; // Color of the balloon
+    private int colorIndex; // Index of balloonColor in BALLOON_COLORS
+    private boolean whiteText; // White label with black outline on dark balloons, the reverse on light ones
 
-    public Balloon(float x, float y) {
-        super(x, y, 100); // Falling speed
+    /**
+     * Creates a balloon with its resources loaded but no value yet.
+     * Used by the entity pool; call init() before adding it to the game.
+     */
+    public Balloon() {
+        super(0, 0, FALL_SPEED);
+        setCollisionFilter(CollisionLayers.BALLOON, CollisionLayers.BALLOON_MASK);
+
+        // Texture and font are shared by every balloon
+        balloonSprite = AssetManager.getInstance().getSprite(EntityAssets.BALLOON_TEXTURE);
+        font = AssetManager.getInstance().getDefaultFont(EntityAssets.BALLOON_FONT_SCALE);
+    }
+
+    /**
+     * Special constructor for state restoration that lets us specify exact values
+     * 
+     * @param x                 The x position
+     * @param y                 The y position
+     * @param value             The numeric value of the balloon
+     * @param displayText       The display text on the balloon
+     * @param usesMathOperation Whether this balloon uses a math operation
+     */
+    public Balloon(float x, float y, int value, String displayText, boolean usesMathOperation) {
+        this();
+        init(x, y, value, displayText, usesMathOperation);
+    }
+
+    /**
+     * Places the balloon and rolls a new random value from the given generator
+     * 
+     * @param x      The x position
+     * @param y      The y position
+     * @param random Generator whose MATH stream picks the value and colour
+     * @param tuning Difficulty and value range to roll for
+     * @return This balloon, for chaining
+     */
+    public Balloon init(float x, float y, GameRandom random, GameTuning tuning) {
+        setPosition(x, y);
+        setPreviousPosition(x, y);
 
         // Determine if this balloon should use math operation based on difficulty
-        usesMathOperation = GameSettings.isHardMode();
+        usesMathOperation = tuning.isHardMode();
 
         if (usesMathOperation) {
-            generateMathOperation(); // Generate a math operation for the balloon
+            generateMathOperation(random, tuning.getBalloonValueMax()); // Generate a math operation for the balloon
         } else {
             // Generate a simple number for easy mode
-            this.value = random.nextInt(9) + 1; // Random number 1-9
+            this.value = random.nextInt(RandomStream.MATH, tuning.getBalloonValueMax()) + 1; // Random number 1-9 by default
             this.displayText = String.valueOf(value);
         }
 
         // Choose a random color for this balloon
-        balloonColor = BALLOON_COLORS[random.nextInt(BALLOON_COLORS.length)];
-
-        // Load balloon texture
-        balloonTexture = new Texture(Gdx.files.internal("balloon.png"));
-
-        // Initialise the font for displaying text
-        font = new BitmapFont();
-        font.setColor(Color.BLACK);
-        font.getData().setScale(1.1f); // Slightly larger font for better visibility
+        setBalloonColor(random.nextInt(RandomStream.MATH, BALLOON_COLORS.length));
+        return this;
     }
 
     /**
-     * Special constructor for state restoration that lets us specify exact values
+     * Places the balloon with exact values (for state restoration)
      * 
      * @param x                 The x position
      * @param y                 The y position
      * @param value             The numeric value of the balloon
      * @param displayText       The display text on the balloon
      * @param usesMathOperation Whether this balloon uses a math operation
+     * @return This balloon, for chaining
      */
-    public Balloon(float x, float y, int value, String displayText, boolean usesMathOperation) {
-        super(x, y, 100); // Falling speed
+    public Balloon init(float x, float y, int value, String displayText, boolean usesMathOperation) {
+        setPosition(x, y);
+        setPreviousPosition(x, y);
 
         this.value = value;
         this.displayText = displayText;
         this.usesMathOperation = usesMathOperation;
 
         // Choose a consistent color based on the value to ensure same visual appearance
-        int colorIndex = value % BALLOON_COLORS.length;
-        this.balloonColor = BALLOON_COLORS[colorIndex];
+        setBalloonColor(value % BALLOON_COLORS.length);
+        return this;
+    }
+
+    // Clears per-balloon state when the balloon is returned to its pool
+    @Override
+    public void reset() {
+        resetEntity();
+        collected = false;
+        isFalling = false;
+        row = null;
+    }
+
+    // Called by BalloonRow when the balloon becomes a member; snaps it to the row's height
+    void joinRow(BalloonRow row) {
+        this.row = row;
+        setPosition(getX(), row.getY());
+        setPreviousPosition(getX(), row.getY());
+    }
+
+    // Called by the motion system when this balloon is given (or moved to) a slot
+    void bindMotion(BalloonMotionSystem motion, int slot) {
+        this.motion = motion;
+        this.motionSlot = slot;
+    }
 
-        // Load balloon texture
-        balloonTexture = new Texture(Gdx.files.internal("balloon.png"));
+    // Called by the motion system on removal, handing the latest state back to the balloon
+    void unbindMotion(float x, float y, float previousX, float previousY, float speed) {
+        this.motion = null;
+        this.motionSlot = -1;
+        super.setPosition(x, y);
+        super.setPreviousPosition(previousX, previousY);
+        super.setSpeed(speed);
+    }
 
-        // Initialize the font for displaying text
-        font = new BitmapFont();
-        font.setColor(Color.BLACK);
-        font.getData().setScale(1.1f); // Slightly larger font for better visibility
+    int getMotionSlot() {
+        return motionSlot;
     }
 
+    // While bound, position and speed live in the motion system's arrays
     @Override
-    public void moveAIControlled() {
+    public float getX() {
+        return motionSlot >= 0 ? motion.getX(motionSlot) : super.getX();
+    }
+
+    @Override
+    public float getY() {
+        return motionSlot >= 0 ? motion.getY(motionSlot) : super.getY();
+    }
+
+    @Override
+    public void setX(float x) {
+        setPosition(x, getY());
+    }
+
+    @Override
+    public void setY(float y) {
+        setPosition(getX(), y);
+    }
+
+    @Override
+    public void setPosition(float x, float y) {
+        if (motionSlot >= 0) {
+            motion.setPosition(motionSlot, x, y);
+        } else {
+            super.setPosition(x, y);
+        }
+    }
+
+    @Override
+    public float getPreviousX() {
+        return motionSlot >= 0 ? motion.getPreviousX(motionSlot) : super.getPreviousX();
+    }
+
+    @Override
+    public float getPreviousY() {
+        return motionSlot >= 0 ? motion.getPreviousY(motionSlot) : super.getPreviousY();
+    }
+
+    @Override
+    public void setPreviousPosition(float prevX, float prevY) {
+        if (motionSlot >= 0) {
+            motion.setPreviousPosition(motionSlot, prevX, prevY);
+        } else {
+            super.setPreviousPosition(prevX, prevY);
+        }
+    }
+
+    @Override
+    public float getSpeed() {
+        return motionSlot >= 0 ? motion.getSpeed(motionSlot) : super.getSpeed();
+    }
+
+    @Override
+    public void setSpeed(float speed) {
+        if (motionSlot >= 0) {
+            motion.setSpeed(motionSlot, speed);
+        } else {
+            super.setSpeed(speed);
+        }
+    }
+
+    // A bound balloon moves without notifying Entity, so its hitbox is refreshed on every read
+    @Override
+    public Rectangle getBounds() {
+        return motionSlot >= 0 ? refreshBounds() : super.getBounds();
+    }
+
+    // Gets the row this balloon belongs to, or null if it is not in one
+    public BalloonRow getRow() {
+        return row;
+    }
+
+    // Steps a balloon on its own; balloons in the game are moved by BalloonMotionSystem
+    @Override
+    public void moveAIControlled(float deltaTime) {
         // Store current position before moving
         setPreviousPosition(getX(), getY());
 
-        // Move the balloon downwards
-        float delta = Gdx.graphics.getDeltaTime();
-        setY(getY() - getSpeed() * delta);
-
-        // Add a small horizontal wobble for balloon effect
-        // Cast the result to float since Math.sin returns a double
-        setX(getX() + (float) (Math.sin(getY() * 0.05) * 0.5));
+        // Move the balloon downwards, with the same wobble as balloons in the motion system
+        setY(getY() - getSpeed() * deltaTime);
+        setX(getX() + BalloonMotionSystem.wobble(getY(), deltaTime));
     }
 
     @Override
@@ -119,7 +260,7 @@ public class Balloon extends MovableEntity {
 
     @Override
     public void update(float deltaTime) {
-        moveAIControlled();
+        // Movement is batched in BalloonMotionSystem
     }
 
     @Override
@@ -129,65 +270,131 @@ public class Balloon extends MovableEntity {
 
     @Override
     public void draw(SpriteBatch batch) {
-        // Draw the balloon texture with the selected color
+        // Draw the balloon sprite with the selected color
         batch.setColor(balloonColor);
-        batch.draw(balloonTexture, getX(), getY(), BALLOON_WIDTH, BALLOON_WIDTH * 1.2f); // Slightly taller for balloon
+        batch.draw(balloonSprite, getDrawX(), getDrawY(), BALLOON_WIDTH, BALLOON_WIDTH * 1.2f); // Slightly taller for balloon
                                                                                          // shape
         batch.setColor(Color.WHITE); // Reset color
 
-        // Center the text for proper display
-        float textX, textY;
+        float textX = getLabelX();
+        float textY = getLabelY();
 
-        // Simple number requires less space than math operation
-        if (usesMathOperation) {
-            textX = getX() + BALLOON_RADIUS - 15; // Wider expression needs more offset
+        // The label and its outline are baked once and drawn as a single quad
+        TextureRegion label = BalloonLabelCache.getInstance().get(displayText, whiteText);
+        if (label != null) {
+            int margin = BalloonLabelCache.MARGIN;
+            batch.draw(label, textX - margin, textY + margin - label.getRegionHeight());
         } else {
-            textX = getX() + BALLOON_RADIUS - 8; // Single digit needs less offset
+            drawLabelText(batch, textX, textY);
         }
+    }
 
-        textY = getY() + BALLOON_RADIUS + 5;
+    @Override
+    public void draw(RenderQueue queue) {
+        // The instanced path draws every balloon, body and label, in one call
+        BalloonInstanceRenderer instancer = BalloonInstanceRenderer.getInstance();
+        if (instancer.isEnabled()) {
+            instancer.add(this, queue);
+            return;
+        }
+
+        // Bodies and labels sit on separate layers so each layer draws from a single texture
+        queue.draw(RenderLayers.BALLOONS, balloonSprite, getDrawX(), getDrawY(),
+                BALLOON_WIDTH, BALLOON_WIDTH * 1.2f, balloonColor);
+
+        float textX = getLabelX();
+        float textY = getLabelY();
 
-        // Choose text color based on balloon color for better contrast
-        if (balloonColor.equals(Color.BLUE) ||
-                balloonColor.equals(Color.PURPLE) ||
-                balloonColor.equals(Color.RED) ||
-                balloonColor.equals(Color.GREEN)) {
-            // Use white text on dark balloons
-            font.setColor(Color.WHITE);
+        TextureRegion label = BalloonLabelCache.getInstance().get(displayText, whiteText);
+        if (label != null) {
+            int margin = BalloonLabelCache.MARGIN;
+            queue.draw(RenderLayers.BALLOON_LABELS, label, textX - margin, textY + margin - label.getRegionHeight());
         } else {
-            // Use black text on light balloons
-            font.setColor(Color.BLACK);
+            // Outline passes first, then the main text, until the label is baked
+            Color outlineColor = whiteText ? Color.BLACK : Color.WHITE;
+            queue.drawText(RenderLayers.BALLOON_LABELS, font, displayText, textX - 1, textY - 1, outlineColor);
+            queue.drawText(RenderLayers.BALLOON_LABELS, font, displayText, textX + 1, textY - 1, outlineColor);
+            queue.drawText(RenderLayers.BALLOON_LABELS, font, displayText, textX - 1, textY + 1, outlineColor);
+            queue.drawText(RenderLayers.BALLOON_LABELS, font, displayText, textX + 1, textY + 1, outlineColor);
+            queue.drawText(RenderLayers.BALLOON_LABELS, font, displayText, textX, textY,
+                    whiteText ? Color.WHITE : Color.BLACK);
         }
+    }
 
-        // Add a slight outline effect for better readability
-        // First draw the text slightly offset in each direction with black/white
-        Color outlineColor = font.getColor().equals(Color.WHITE) ? Color.BLACK : Color.WHITE;
+    @Override
+    public int getRenderLayer() {
+        return RenderLayers.BALLOONS;
+    }
+
+    /**
+     * Writes this balloon's instance data for BalloonInstanceRenderer
+     * 
+     * @param data   Instance buffer
+     * @param offset Where to write the INSTANCE_FLOATS values
+     */
+    void writeInstance(float[] data, int offset) {
+        data[offset] = getDrawX();
+        data[offset + 1] = getDrawY();
+        data[offset + 2] = colorIndex;
+
+        TextureRegion label = BalloonLabelCache.getInstance().get(displayText, whiteText);
+        if (label == null) {
+            // Not baked yet; an empty box hides the label for this frame
+            for (int i = 3; i < BalloonInstanceRenderer.INSTANCE_FLOATS; i++) {
+                data[offset + i] = 0;
+            }
+            return;
+        }
+        int margin = BalloonLabelCache.MARGIN;
+        data[offset + 3] = label.getU();
+        data[offset + 4] = label.getV();
+        data[offset + 5] = label.getU2();
+        data[offset + 6] = label.getV2();
+        // Label box relative to the balloon, matching the SpriteBatch path
+        data[offset + 7] = getLabelX() - getDrawX() - margin;
+        data[offset + 8] = getLabelY() - getDrawY() + margin - label.getRegionHeight();
+        data[offset + 9] = label.getRegionWidth();
+        data[offset + 10] = label.getRegionHeight();
+    }
 
-        // Save original color
-        Color originalColor = new Color(font.getColor());
+    // Left edge of the label text, centred for its width
+    private float getLabelX() {
+        // Simple number requires less space than math operation
+        if (usesMathOperation) {
+            return getDrawX() + BALLOON_RADIUS - 15; // Wider expression needs more offset
+        }
+        return getDrawX() + BALLOON_RADIUS - 8; // Single digit needs less offset
+    }
 
-        // Draw outline
-        font.setColor(outlineColor);
+    // Top of the label text
+    private float getLabelY() {
+        return getDrawY() + BALLOON_RADIUS + 5;
+    }
+
+    // Draws the label with the font, for the frame before it is baked
+    private void drawLabelText(SpriteBatch batch, float textX, float textY) {
+        // Add a slight outline effect for better readability
+        font.setColor(whiteText ? Color.BLACK : Color.WHITE);
         // Small offsets for outline effect
         font.draw(batch, displayText, textX - 1, textY - 1);
         font.draw(batch, displayText, textX + 1, textY - 1);
         font.draw(batch, displayText, textX - 1, textY + 1);
         font.draw(batch, displayText, textX + 1, textY + 1);
 
-        // Restore original color and draw the main text
-        font.setColor(originalColor);
+        // Main text in the contrasting colour
+        font.setColor(whiteText ? Color.WHITE : Color.BLACK);
         font.draw(batch, displayText, textX, textY);
     }
 
     // Generate a random math operation for the balloon
-    private void generateMathOperation() {
+    private void generateMathOperation(GameRandom random, int maxOperand) {
         // Generate random numbers for the operation
-        operand1 = random.nextInt(9) + 1; // 1-9
-        operand2 = random.nextInt(9) + 1; // 1-9
+        operand1 = random.nextInt(RandomStream.MATH, maxOperand) + 1; // 1-9 by default
+        operand2 = random.nextInt(RandomStream.MATH, maxOperand) + 1;
 
         // Choose a random operation
         String[] operations = { "+", "-", "*" };
-        operation = operations[random.nextInt(operations.length)];
+        operation = operations[random.nextInt(RandomStream.MATH, operations.length)];
 
         // Calculate the result
         switch (operation) {
@@ -220,6 +427,10 @@ public class Balloon extends MovableEntity {
     public void setBalloonColor(int colorIndex) {
         if (colorIndex >= 0 && colorIndex < BALLOON_COLORS.length) {
             this.balloonColor = BALLOON_COLORS[colorIndex];
+            this.colorIndex = colorIndex;
+            // Use white text on dark balloons and black text on light ones
+            this.whiteText = balloonColor == Color.BLUE || balloonColor == Color.PURPLE
+                    || balloonColor == Color.RED || balloonColor == Color.GREEN;
         }
     }
 
@@ -229,12 +440,7 @@ public class Balloon extends MovableEntity {
      * @return The index in the BALLOON_COLORS array
      */
     public int getBalloonColorIndex() {
-        for (int i = 0; i < BALLOON_COLORS.length; i++) {
-            if (balloonColor.equals(BALLOON_COLORS[i])) {
-                return i;
-            }
-        }
-        return 0; // Default to first color if not found
+        return colorIndex;
     }
 
     public int getValue() {
@@ -259,11 +465,8 @@ public class Balloon extends MovableEntity {
 
     @Override
     public void dispose() {
-        if (balloonTexture != null) {
-            balloonTexture.dispose();
-        }
-        if (font != null) {
-            font.dispose();
-        }
+        // Texture and font are shared through the AssetManager and released by the owning scene
+        balloonSprite = null;
+        font = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.mygdx.game.AbstractEntity.RenderQueue;
+import com.mygdx.game.AbstractEntity.iRenderCommand;
+import com.mygdx.game.util.AssetManager;
+import com.mygdx.game.util.GameLog;
+
+/**
+ * Optional instanced rendering path for balloons, for stress tests with
+ * thousands of balloons on screen. One mesh holds a body quad and a label
+ * quad; each balloon adds only its position, colour index and label box to
+ * an instance buffer, and every balloon is drawn in a single instanced call.
+ * Needs OpenGL 3 (see the launcher's --instanced-balloons flag or
+ * -Dballoons.instanced=true); without it the renderer stays disabled and
+ * balloons use the SpriteBatch path.
+ */
+public class BalloonInstanceRenderer implements iRenderCommand {
+    // Per balloon: offset x/y, colour index, label u/v/u2/v2, label box x/y/width/height
+    static final int INSTANCE_FLOATS = 11;
+    private static final int INITIAL_CAPACITY = 1024; // Instances; doubled whenever a frame needs more
+
+    // System property the launcher sets to select this path at startup
+    public static final String ENABLE_PROPERTY = "balloons.instanced";
+
+    private static final String VERTEX_SHADER = ""
+            + "attribute vec2 a_corner;\n" // Quad corner, 0 or 1 on each axis
+            + "attribute float a_part;\n" // 0 for the body quad, 1 for the label quad
+            + "attribute vec2 i_offset;\n"
+            + "attribute float i_colorIndex;\n"
+            + "attribute vec4 i_labelUV;\n"
+            + "attribute vec4 i_labelBox;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "uniform vec2 u_bodySize;\n"
+            + "uniform vec4 u_bodyUV;\n"
+            + "uniform vec4 u_palette[" + Balloon.BALLOON_COLORS.length + "];\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying vec4 v_color;\n"
+            + "varying float v_part;\n"
+            + "void main() {\n"
+            + "    vec2 position;\n"
+            + "    vec4 uv;\n"
+            + "    if (a_part < 0.5) {\n"
+            + "        position = i_offset + a_corner * u_bodySize;\n"
+            + "        uv = u_bodyUV;\n"
+            + "        v_color = u_palette[int(i_colorIndex)];\n"
+            + "    } else {\n"
+            + "        position = i_offset + i_labelBox.xy + a_corner * i_labelBox.zw;\n"
+            + "        uv = i_labelUV;\n"
+            + "        v_color = vec4(1.0);\n"
+            + "    }\n"
+            // Regions store v at the top edge, as SpriteBatch expects
+            + "    v_texCoords = vec2(mix(uv.x, uv.z, a_corner.x), mix(uv.w, uv.y, a_corner.y));\n"
+            + "    v_part = a_part;\n"
+            + "    gl_Position = u_projTrans * vec4(position, 0.0, 1.0);\n"
+            + "}\n";
+
+    private static final String FRAGMENT_SHADER = ""
+            + "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying vec4 v_color;\n"
+            + "varying float v_part;\n"
+            + "uniform sampler2D u_bodyTexture;\n"
+            + "uniform sampler2D u_labelTexture;\n"
+            + "void main() {\n"
+            + "    vec4 body = texture2D(u_bodyTexture, v_texCoords);\n"
+            + "    vec4 label = texture2D(u_labelTexture, v_texCoords);\n"
+            + "    gl_FragColor = v_color * mix(body, label, step(0.5, v_part));\n"
+            + "}\n";
+
+    private static BalloonInstanceRenderer instance;
+
+    private boolean enabled;
+    private ShaderProgram shader;
+    private Mesh mesh;
+    private int capacity; // Instances the mesh can hold
+    private float[] instances = new float[INITIAL_CAPACITY * INSTANCE_FLOATS];
+    private int count; // Balloons added this frame
+    private RenderQueue queuedOn; // Queue holding this frame's draw command
+    private int queuedFrame; // Frame of that queue the command belongs to
+    private final float[] palette = new float[Balloon.BALLOON_COLORS.length * 4];
+
+    private BalloonInstanceRenderer() {
+        setEnabled(Boolean.getBoolean(ENABLE_PROPERTY));
+    }
+
+    public static BalloonInstanceRenderer getInstance() {
+        if (instance == null) {
+            instance = new BalloonInstanceRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Selects the instanced path or the SpriteBatch path
+     * 
+     * @param enabled true to draw balloons instanced; ignored without OpenGL 3
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && (Gdx.gl30 == null)) {
+            GameLog.info("Instanced balloons need OpenGL 3; using the SpriteBatch path");
+            enabled = false;
+        }
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds a balloon to this frame's instances. The first balloon of a frame
+     * queues the single draw call on the balloon layer. A new frame is told
+     * apart by the queue's frame id, so instances left over from a queue that
+     * was cleared without drawing are dropped rather than piling up.
+     * 
+     * @param balloon The balloon to draw
+     * @param queue   The frame's render queue
+     */
+    void add(Balloon balloon, RenderQueue queue) {
+        if (queue != queuedOn || queue.getFrame() != queuedFrame) {
+            count = 0;
+            queuedOn = queue;
+            queuedFrame = queue.getFrame();
+            queue.drawCommand(RenderLayers.BALLOONS, this);
+        }
+        if ((count + 1) * INSTANCE_FLOATS > instances.length) {
+            float[] grown = new float[instances.length * 2];
+            System.arraycopy(instances, 0, grown, 0, count * INSTANCE_FLOATS);
+            instances = grown;
+        }
+        balloon.writeInstance(instances, count * INSTANCE_FLOATS);
+        count++;
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+        TextureRegion body = AssetManager.getInstance().getSprite(EntityAssets.BALLOON_TEXTURE);
+        if (count == 0 || body == null) {
+            return;
+        }
+        prepare();
+
+        mesh.setInstanceData(instances, 0, count * INSTANCE_FLOATS);
+
+        // Body sprite on unit 0, baked labels on unit 1
+        BalloonLabelCache labels = BalloonLabelCache.getInstance();
+        if (labels.getTexture() != null) {
+            labels.getTexture().bind(1);
+        }
+        body.getTexture().bind(0); // Leaves unit 0 active for the batch
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", batch.getProjectionMatrix());
+        shader.setUniformf("u_bodySize", Balloon.getBalloonWidth(), Balloon.getBalloonWidth() * 1.2f);
+        shader.setUniformf("u_bodyUV", body.getU(), body.getV(), body.getU2(), body.getV2());
+        shader.setUniform4fv("u_palette", palette, 0, palette.length);
+        shader.setUniformi("u_bodyTexture", 0);
+        shader.setUniformi("u_labelTexture", 1);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+
+        // Hand the batch back its own shader and matrices
+        batch.getShader().bind();
+        batch.setProjectionMatrix(batch.getProjectionMatrix());
+    }
+
+    // Creates the shader and mesh on first use, and grows the mesh to fit this frame
+    private void prepare() {
+        if (shader == null) {
+            shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!shader.isCompiled()) {
+                throw new IllegalStateException("Balloon instance shader failed: " + shader.getLog());
+            }
+            for (int i = 0; i < Balloon.BALLOON_COLORS.length; i++) {
+                Color color = Balloon.BALLOON_COLORS[i];
+                palette[i * 4] = color.r;
+                palette[i * 4 + 1] = color.g;
+                palette[i * 4 + 2] = color.b;
+                palette[i * 4 + 3] = color.a;
+            }
+        }
+        if (mesh == null || count > capacity) {
+            if (mesh != null) {
+                mesh.dispose();
+            }
+            capacity = Math.max(INITIAL_CAPACITY, Math.max(count, capacity * 2));
+            mesh = createMesh(capacity);
+        }
+    }
+
+    // Two quads, body then label, sharing the instance attributes
+    private static Mesh createMesh(int capacity) {
+        Mesh mesh = new Mesh(true, 8, 12,
+                new VertexAttribute(VertexAttributes.Usage.Generic, 2, "a_corner"),
+                new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_part"));
+        mesh.setVertices(new float[] {
+                0, 0, 0, 1, 0, 0, 1, 1, 0, 0, 1, 0, // Body
+                0, 0, 1, 1, 0, 1, 1, 1, 1, 0, 1, 1 // Label
+        });
+        mesh.setIndices(new short[] { 0, 1, 2, 2, 3, 0, 4, 5, 6, 6, 7, 4 });
+        mesh.enableInstancedRendering(false, capacity,
+                new VertexAttribute(VertexAttributes.Usage.Generic, 2, "i_offset"),
+                new VertexAttribute(VertexAttributes.Usage.Generic, 1, "i_colorIndex"),
+                new VertexAttribute(VertexAttributes.Usage.Generic, 4, "i_labelUV"),
+                new VertexAttribute(VertexAttributes.Usage.Generic, 4, "i_labelBox"));
+        return mesh;
+    }
+
+    // Releases the GPU resources; they are created again on the next draw
+    public void dispose() {
+        if (mesh != null) {
+            mesh.dispose();
+            mesh = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+        capacity = 0;
+        count = 0;
+        queuedOn = null;
+    }
+}
@@ -0,0 +1,151 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.util.AssetManager;
+import com.mygdx.game.util.FrameBufferAtlas;
+import com.mygdx.game.util.GameLog;
+import com.mygdx.game.util.GameWorld;
+
+/**
+ * Pre-rendered balloon labels.
+ * Each distinct label text is drawn once per colour scheme, outline included,
+ * into a FrameBufferAtlas, so a balloon draws its label as one quad instead of
+ * five font passes. Labels first asked for during a frame are drawn as text
+ * for that frame and baked by bakePending() before the next one.
+ */
+public class BalloonLabelCache {
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int ATLAS_HEIGHT = 512; // Room for every label of both schemes in hard mode
+    private static final int OUTLINE = 1; // Outline offset in pixels, as in the old per-frame passes
+    private static final int PADDING = 2; // Extra room for glyphs that reach past their layout box
+
+    // Distance from the text position to the edges of a baked label
+    public static final int MARGIN = OUTLINE + PADDING;
+
+    private static BalloonLabelCache instance;
+
+    private final LabelScheme blackOnWhite = new LabelScheme(Color.BLACK, Color.WHITE);
+    private final LabelScheme whiteOnBlack = new LabelScheme(Color.WHITE, Color.BLACK);
+    private final GlyphLayout layout = new GlyphLayout();
+    private FrameBufferAtlas atlas; // Created on the first bake
+    private boolean full = false; // Set once the atlas has no room left
+
+    // Labels and queued texts of one colour scheme
+    private static class LabelScheme {
+        final Color textColor;
+        final Color outlineColor;
+        final ObjectMap<String, TextureRegion> labels = new ObjectMap<>();
+        final Array<String> pending = new Array<>();
+
+        LabelScheme(Color textColor, Color outlineColor) {
+            this.textColor = textColor;
+            this.outlineColor = outlineColor;
+        }
+
+        void clear() {
+            labels.clear();
+            pending.clear();
+        }
+    }
+
+    private BalloonLabelCache() {
+        // Private constructor for singleton
+    }
+
+    public static BalloonLabelCache getInstance() {
+        if (instance == null) {
+            instance = new BalloonLabelCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the baked label for a text, queueing it for baking if it is missing
+     *
+     * @param text      The label text
+     * @param whiteText true for white text on a black outline, false for the reverse
+     * @return The baked label, or null until it has been baked
+     */
+    public TextureRegion get(String text, boolean whiteText) {
+        LabelScheme scheme = whiteText ? whiteOnBlack : blackOnWhite;
+        TextureRegion label = scheme.labels.get(text);
+        if (label == null && !full && !GameWorld.isHeadless() && !scheme.pending.contains(text, false)) {
+            scheme.pending.add(text);
+        }
+        return label;
+    }
+
+    // Bakes every queued label; call outside any batch, before the frame is drawn
+    public void bakePending() {
+        if (blackOnWhite.pending.size == 0 && whiteOnBlack.pending.size == 0) {
+            return;
+        }
+        BitmapFont font = AssetManager.getInstance().getDefaultFont(EntityAssets.BALLOON_FONT_SCALE);
+        if (atlas == null) {
+            atlas = new FrameBufferAtlas(ATLAS_WIDTH, ATLAS_HEIGHT);
+        }
+
+        atlas.begin();
+        bake(blackOnWhite, font);
+        bake(whiteOnBlack, font);
+        atlas.end();
+        blackOnWhite.pending.clear();
+        whiteOnBlack.pending.clear();
+    }
+
+    // Draws a scheme's queued labels into the atlas, stopping once it is full
+    private void bake(LabelScheme scheme, BitmapFont font) {
+        if (full) {
+            return;
+        }
+        Color textColor = scheme.textColor;
+        Color outlineColor = scheme.outlineColor;
+        for (String text : scheme.pending) {
+            layout.setText(font, text);
+            int width = (int) Math.ceil(layout.width) + MARGIN * 2;
+            int height = (int) Math.ceil(layout.height) + MARGIN * 2;
+
+            TextureRegion label = atlas.add(width, height, (batch, x, y, w, h) -> {
+                // font.draw takes the top of the text, so place it a margin below the region's top
+                float textX = x + MARGIN;
+                float textY = y + h - MARGIN;
+                font.setColor(outlineColor);
+                font.draw(batch, text, textX - OUTLINE, textY - OUTLINE);
+                font.draw(batch, text, textX + OUTLINE, textY - OUTLINE);
+                font.draw(batch, text, textX - OUTLINE, textY + OUTLINE);
+                font.draw(batch, text, textX + OUTLINE, textY + OUTLINE);
+                font.setColor(textColor);
+                font.draw(batch, text, textX, textY);
+            });
+
+            if (label == null) {
+                full = true;
+                GameLog.info("Balloon label atlas is full; remaining labels are drawn as text");
+                return;
+            }
+            scheme.labels.put(text, label);
+        }
+    }
+
+    // Gets the texture holding the baked labels, or null before the first bake
+    public Texture getTexture() {
+        return atlas != null ? atlas.getTexture() : null;
+    }
+
+    // Releases the atlas; labels are baked again the next time they are needed
+    public void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        blackOnWhite.clear();
+        whiteOnBlack.clear();
+        full = false;
+    }
+}
@@ -0,0 +1,154 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Moves every balloon in one pass over primitive arrays.
+ * Positions, previous positions and speeds are stored
+ * structure-of-arrays style, one slot per balloon; bound balloons read and
+ * write their position through their slot instead of their own fields.
+ */
+public class BalloonMotionSystem {
+    private static final float WOBBLE_FREQUENCY = 0.05f; // Horizontal wobble per unit of height
+    private static final float WOBBLE_SPEED = 30f; // Peak horizontal wobble speed in pixels per second
+
+    private int size = 0; // Number of occupied slots
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] previousX = new float[0];
+    private float[] previousY = new float[0];
+    private float[] speed = new float[0];
+    private Balloon[] owners = new Balloon[0]; // Balloon bound to each slot
+
+    public BalloonMotionSystem(int initialCapacity) {
+        ensureCapacity(initialCapacity);
+    }
+
+    /**
+     * Binds a balloon to a new slot, taking over its current position and speed
+     *
+     * @param balloon The balloon to move
+     */
+    public void add(Balloon balloon) {
+        if (balloon.getMotionSlot() >= 0) {
+            return; // Already bound
+        }
+        ensureCapacity(size + 1);
+
+        int slot = size++;
+        x[slot] = balloon.getX();
+        y[slot] = balloon.getY();
+        previousX[slot] = balloon.getPreviousX();
+        previousY[slot] = balloon.getPreviousY();
+        speed[slot] = balloon.getSpeed();
+        owners[slot] = balloon;
+        balloon.bindMotion(this, slot);
+    }
+
+    /**
+     * Unbinds a balloon, writing its position back to the balloon first.
+     * The last slot is moved into the gap so the arrays stay dense.
+     *
+     * @param balloon The balloon that left the game
+     */
+    public void remove(Balloon balloon) {
+        int slot = balloon.getMotionSlot();
+        if (slot < 0 || owners[slot] != balloon) {
+            return;
+        }
+        balloon.unbindMotion(x[slot], y[slot], previousX[slot], previousY[slot], speed[slot]);
+
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            speed[slot] = speed[last];
+            owners[slot] = owners[last];
+            owners[slot].bindMotion(this, slot);
+        }
+        owners[last] = null;
+    }
+
+    /**
+     * Moves every balloon down by its speed and applies the horizontal wobble
+     *
+     * @param deltaTime Time step in seconds
+     */
+    public void update(float deltaTime) {
+        for (int i = 0; i < size; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            float newY = y[i] - speed[i] * deltaTime;
+            y[i] = newY;
+            x[i] += wobble(newY, deltaTime);
+        }
+    }
+
+    // Horizontal wobble of a balloon at the given height over one step
+    static float wobble(float y, float deltaTime) {
+        return MathUtils.sin(y * WOBBLE_FREQUENCY) * WOBBLE_SPEED * deltaTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Slot accessors used by bound balloons
+    float getX(int slot) {
+        return x[slot];
+    }
+
+    float getY(int slot) {
+        return y[slot];
+    }
+
+    float getPreviousX(int slot) {
+        return previousX[slot];
+    }
+
+    float getPreviousY(int slot) {
+        return previousY[slot];
+    }
+
+    float getSpeed(int slot) {
+        return speed[slot];
+    }
+
+    void setPosition(int slot, float newX, float newY) {
+        x[slot] = newX;
+        y[slot] = newY;
+    }
+
+    void setPreviousPosition(int slot, float prevX, float prevY) {
+        previousX[slot] = prevX;
+        previousY[slot] = prevY;
+    }
+
+    void setSpeed(int slot, float newSpeed) {
+        speed[slot] = newSpeed;
+    }
+
+    // Grows every array together, doubling to keep adds amortised
+    private void ensureCapacity(int capacity) {
+        if (capacity <= x.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = copyOf(x, newCapacity);
+        y = copyOf(y, newCapacity);
+        previousX = copyOf(previousX, newCapacity);
+        previousY = copyOf(previousY, newCapacity);
+        speed = copyOf(speed, newCapacity);
+        Balloon[] newOwners = new Balloon[newCapacity];
+        System.arraycopy(owners, 0, newOwners, 0, size);
+        owners = newOwners;
+    }
+
+    private float[] copyOf(float[] array, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, size);
+        return copy;
+    }
+}
@@ -0,0 +1,71 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A row of balloons that is detected and cleared as one unit.
+ * Members all fall at the same speed from the same height, so the row's
+ * height is read from any member and reaching the bottom or clearing the
+ * row never has to regroup balloons by Y.
+ */
+public class BalloonRow implements Pool.Poolable {
+    private final Array<Balloon> balloons = new Array<>(true, 8); // Members, left to right
+    private float spawnY; // Height new members are snapped to before the row has moved
+    private boolean cleared = false; // Set once the whole row has been removed
+    private boolean registered = false; // Whether the entity manager is moving this row
+
+    // Starts a pooled row at the given height
+    public BalloonRow init(float y) {
+        this.spawnY = y;
+        return this;
+    }
+
+    // Adds a balloon to the row and snaps it to the row's height
+    public void add(Balloon balloon) {
+        balloons.add(balloon);
+        balloon.joinRow(this);
+    }
+
+    // Removes a balloon that left the game
+    public void remove(Balloon balloon) {
+        balloons.removeValue(balloon, true);
+    }
+
+    // Deactivates every member; they leave the game at the end of the frame
+    public void clear() {
+        cleared = true;
+        for (int i = 0; i < balloons.size; i++) {
+            balloons.get(i).setActive(false);
+        }
+    }
+
+    // Shared height of the row's balloons
+    public float getY() {
+        return balloons.size > 0 ? balloons.first().getY() : spawnY;
+    }
+
+    public boolean isCleared() {
+        return cleared;
+    }
+
+    public boolean isEmpty() {
+        return balloons.size == 0;
+    }
+
+    boolean isRegistered() {
+        return registered;
+    }
+
+    void setRegistered(boolean registered) {
+        this.registered = registered;
+    }
+
+    @Override
+    public void reset() {
+        balloons.clear();
+        spawnY = 0;
+        cleared = false;
+        registered = false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mygdx.game.GameEntity;
+
+import com.mygdx.game.util.AssetManager;
+
+/**
+ * Paths and font scales for the graphics shared by game entities.
+ * Entities fetch these through the AssetManager so each texture and font is
+ * loaded once; the owning scene releases them with unload(). Sprites come
+ * from the packed gameplay atlas when it has been built.
+ */
+public final class EntityAssets {
+    public static final String BALLOON_TEXTURE = "balloon.png";
+    public static final String PLAYER_TEXTURE = "player.png";
+    public static final String SPIKES_TEXTURE = "spike.png";
+    public static final String PAUSE_TEXTURE = "pause.png"; // Game scene pause button, packed with the sprites
+
+    public static final float BALLOON_FONT_SCALE = 1.1f; // Slightly larger font for better visibility
+    public static final float POWERUP_FONT_SCALE = 1.6f;
+    public static final float EFFECT_FONT_SCALE = 1.5f;
+
+    private EntityAssets() {
+        // Constants holder
+    }
+
+    // Releases all entity graphics; called when the game scene is disposed
+    public static void unload() {
+        AssetManager assets = AssetManager.getInstance();
+        assets.unloadAsset(BALLOON_TEXTURE);
+        assets.unloadAsset(PLAYER_TEXTURE);
+        assets.unloadAsset(SPIKES_TEXTURE);
+        assets.unloadAsset(PAUSE_TEXTURE);
+        assets.unloadAsset(AssetManager.SPRITE_ATLAS);
+        assets.unloadAsset(AssetManager.defaultFontPath(BALLOON_FONT_SCALE));
+        assets.unloadAsset(AssetManager.defaultFontPath(POWERUP_FONT_SCALE));
+        assets.unloadAsset(AssetManager.defaultFontPath(EFFECT_FONT_SCALE));
+        BalloonLabelCache.getInstance().dispose(); // Labels were baked with the balloon font
+        PowerUpSprites.getInstance().dispose();
+        BalloonInstanceRenderer.getInstance().dispose();
+    }
+}
@@ -0,0 +1,124 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.AbstractEntity.Entity;
+import com.mygdx.game.GamePowerups.PowerUpType;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.GameRandom;
+
+/**
+ * Typed pools for the short-lived game entities.
+ * Reusing instances avoids reloading textures and fonts every time a
+ * balloon row, spikes wave, power-up or effect is spawned.
+ */
+public class EntityPools {
+    // Upper bounds on idle instances kept per type
+    private static final int MAX_FREE_BALLOONS = 64;
+    private static final int MAX_FREE_SPIKES = 32;
+    private static final int MAX_FREE_POWERUPS = 16;
+    private static final int MAX_FREE_EFFECTS = 16;
+    private static final int MAX_FREE_ROWS = 8;
+
+    private final Pool<Balloon> balloonPool = new EntityPool<Balloon>(16, MAX_FREE_BALLOONS) {
+        @Override
+        protected Balloon newObject() {
+            return new Balloon();
+        }
+    };
+
+    private final Pool<Spikes> spikesPool = new EntityPool<Spikes>(8, MAX_FREE_SPIKES) {
+        @Override
+        protected Spikes newObject() {
+            return new Spikes(0, 0);
+        }
+    };
+
+    private final Pool<PowerUp> powerUpPool = new EntityPool<PowerUp>(4, MAX_FREE_POWERUPS) {
+        @Override
+        protected PowerUp newObject() {
+            return new PowerUp();
+        }
+    };
+
+    private final Pool<PowerUpEffect> effectPool = new EntityPool<PowerUpEffect>(4, MAX_FREE_EFFECTS) {
+        @Override
+        protected PowerUpEffect newObject() {
+            return new PowerUpEffect();
+        }
+    };
+
+    private final Pool<BalloonRow> rowPool = new Pool<BalloonRow>(4, MAX_FREE_ROWS) {
+        @Override
+        protected BalloonRow newObject() {
+            return new BalloonRow();
+        }
+    };
+
+    // Pool that releases an entity's resources when it is dropped instead of kept
+    private abstract static class EntityPool<T extends Entity> extends Pool<T> {
+        EntityPool(int initialCapacity, int max) {
+            super(initialCapacity, max);
+        }
+
+        @Override
+        protected void discard(T entity) {
+            super.discard(entity);
+            entity.dispose();
+        }
+    }
+
+    public Balloon obtainBalloon(float x, float y, GameRandom random, GameTuning tuning) {
+        return balloonPool.obtain().init(x, y, random, tuning);
+    }
+
+    public BalloonRow obtainRow(float y) {
+        return rowPool.obtain().init(y);
+    }
+
+    public void freeRow(BalloonRow row) {
+        rowPool.free(row);
+    }
+
+    public Spikes obtainSpikes(float x, float y) {
+        return spikesPool.obtain().init(x, y);
+    }
+
+    public PowerUp obtainPowerUp(float x, float y, PowerUpType type) {
+        return powerUpPool.obtain().init(x, y, type);
+    }
+
+    public PowerUpEffect obtainEffect(float x, float y, String text, Color color, float duration) {
+        return effectPool.obtain().init(x, y, text, color, duration);
+    }
+
+    /**
+     * Returns an entity to its pool
+     *
+     * @param entity The entity that left the game
+     * @return true if the entity was pooled, false if the caller should dispose it
+     */
+    public boolean free(Entity entity) {
+        if (entity instanceof Balloon) {
+            balloonPool.free((Balloon) entity);
+        } else if (entity instanceof Spikes) {
+            spikesPool.free((Spikes) entity);
+        } else if (entity instanceof PowerUp) {
+            powerUpPool.free((PowerUp) entity);
+        } else if (entity instanceof PowerUpEffect) {
+            effectPool.free((PowerUpEffect) entity);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    // Disposes every idle instance held by the pools
+    public void clear() {
+        balloonPool.clear();
+        spikesPool.clear();
+        powerUpPool.clear();
+        effectPool.clear();
+        rowPool.clear();
+    }
+}
@@ -2,98 +2,151 @@ package com.mygdx.game.GameEntity;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.mygdx.game.AbstractCollision.StaticObstacleIndex;
 import com.mygdx.game.AbstractEntity.AbstractEntityManager;
 import com.mygdx.game.AbstractEntity.Entity;
 import com.mygdx.game.AbstractIO.iInputManager;
 import com.mygdx.game.GameCollision.iCollisionCallback;
 import com.mygdx.game.GamePowerups.PowerUpType;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.EventScheduler;
+import com.mygdx.game.util.GameLog;
+import com.mygdx.game.util.GameRandom;
+import com.mygdx.game.util.GameWorld;
+import com.mygdx.game.util.PoissonDiskSampler;
+import com.mygdx.game.util.RandomStream;
 
 public class GameEntityManager extends AbstractEntityManager implements iCollisionCallback {
     // This class now implements CollisionCallback to provide collision detection
     // for the Player
-    private static final Random random = new Random();
     private static final int NUM_BALLOONS = 8; // Number of balloons per row
     private static final float GAP_RATIO = 0.1f; // 10% gap between balloons
 
     private int rowsSpawned = 0; // Tracks the number of spawned rows
+    private final EntityPools pools = new EntityPools(); // Recycled balloons, spikes, power-ups and effects
+    private final Array<BalloonRow> rows = new Array<>(true, 8); // Falling balloon rows, oldest first
+    private final BalloonMotionSystem balloonMotion = new BalloonMotionSystem(64); // Positions of balloons in the game
+    private static final float ROW_SNAP_DISTANCE = 1f; // Restored balloons this close in Y share a row
+    private final StaticObstacleIndex spikesIndex = new StaticObstacleIndex(64f); // Spikes hitboxes for movement probes
+    private boolean spikesIndexDirty = true; // Set whenever spikes join or leave
     private iEntityScoreHandler scoreHandler; // Reference to score handler instead of GameScene
-
-    private float spikesSpawnTimer = 0; // Timer to track spikes spawn intervals
-    private static final float SPIKES_LIFETIME = 5f; // Spikes disappear after 5 seconds
-    private static final float SPIKES_SPAWN_INTERVAL = 5f; // Every 5 seconds
-
-    // Power-up related fields
-    private float powerUpSpawnTimer = 0;
-    private static final float POWERUP_SPAWN_INTERVAL = 3.5f; // Every 3.5 seconds
-    private static final float POWERUP_SPAWN_CHANCE = 0.9f; // 90% chance to spawn
+    private final GameRandom random; // Source of every random spawn, value and power-up choice
+    private final GameTuning tuning; // Spawn intervals, lifetimes and balloon values
+
+    // Spawn waves and spikes expiries run as events on game time rather than per-frame timers
+    private final EventScheduler scheduler = new EventScheduler();
+    private long spikesWaveEvent = EventScheduler.NONE;
+    private long powerUpRollEvent = EventScheduler.NONE;
+    private final Runnable spikesWave = this::onSpikesWave;
+    private final Runnable powerUpRoll = this::onPowerUpRoll;
+    private static final float SPIKES_SIZE = 50f; // Width and height of a spikes
+    private static final float PLAYER_SAFE_DISTANCE = 100f; // Buffer distance to keep between spikes and player
+
+    // Poisson-disk placement for spikes and power-ups, reused between spawns
+    private final PoissonDiskSampler placementSampler;
+    private final FloatArray placementPoints = new FloatArray();
+    private final Vector2 placementPoint = new Vector2();
 
     public GameEntityManager() {
-        // Default constructor
+        this(GameRandom.getInstance(), new GameTuning());
     }
 
     // Constructor with EntityScoreHandler reference
     public GameEntityManager(iEntityScoreHandler scoreHandler) {
+        this();
         this.scoreHandler = scoreHandler;
     }
 
+    // Constructor with its own generator and tuning, so a seeded session can be replayed
+    public GameEntityManager(GameRandom random, GameTuning tuning) {
+        this.random = random;
+        this.tuning = tuning;
+        this.placementSampler = new PoissonDiskSampler(SPIKES_SIZE * 1.5f, random.get(RandomStream.SPAWN));
+        resetSpawnTimers();
+    }
+
     @Override
     public void updateEntities(float deltaTime) {
-        // Removes inactive entities from list
-        entities.removeIf(entity -> {
-            if (!entity.isActive()) {
-                entity.dispose();
-                return true;
+        // Updates the behavior of each entity; inactive ones are dropped at the end of the frame
+        beginFrame();
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity entity = entities.get(i);
+                if (entity.isActive()) {
+                    entity.update(deltaTime);
+                }
             }
-            return false;
-        });
 
-        // Updates the behavior of each entity
-        for (Entity entity : entities) {
-            entity.update(deltaTime);
+            // All balloons move in one pass over the motion arrays
+            balloonMotion.update(deltaTime);
+        } finally {
+            endFrame();
         }
 
-        // Handle spikes spawning timer
-        spikesSpawnTimer += deltaTime;
-        if (spikesSpawnTimer >= SPIKES_SPAWN_INTERVAL) {
-            spawnSpikes(4); // Spawn 4 spikes
-            spikesSpawnTimer = 0; // Reset timer
-        }
+        // Fires the spawn waves and spikes expiries that fall due in this step
+        scheduler.advance(deltaTime);
+        removeRowIfAtBottomAndSpawn();
+    }
 
-        // Handle power-up spawning timer
-        powerUpSpawnTimer += deltaTime;
-        if (powerUpSpawnTimer >= POWERUP_SPAWN_INTERVAL) {
-            // Chance-based spawning
-            if (MathUtils.random() < POWERUP_SPAWN_CHANCE) {
-                spawnPowerUp();
-            }
-            powerUpSpawnTimer = 0; // Reset timer
-        }
+    // Spawns a spikes wave and schedules the next one
+    private void onSpikesWave() {
+        spawnSpikes(tuning.getSpikesPerWave());
+        spikesWaveEvent = scheduler.schedule(tuning.getSpikesSpawnInterval(), spikesWave);
+    }
 
-        // Remove spikes that have existed longer than SPIKES_LIFETIME
-        removeExpiredSpikes(deltaTime);
-        removeRowIfAtBottomAndSpawn();
+    // Rolls for a power-up spawn and schedules the next roll
+    private void onPowerUpRoll() {
+        // Chance-based spawning
+        if (random.nextFloat(RandomStream.SPAWN) < tuning.getPowerUpSpawnChance()) {
+            spawnPowerUp();
+        }
+        powerUpRollEvent = scheduler.schedule(tuning.getPowerUpSpawnInterval(), powerUpRoll);
     }
 
     // Implementation of CollisionCallback interface
     @Override
     public boolean wouldCollideWithSpikes(float x, float y, float width, float height) {
-        // Create a temporary rectangle at the potential new position
-        Rectangle potentialPosition = new Rectangle(x, y, width, height);
+        return getSpikesIndex().overlaps(x, y, width, height);
+    }
+
+    @Override
+    public float sweepAgainstSpikesX(float x, float y, float width, float height, float dx) {
+        return getSpikesIndex().sweepX(x, y, width, height, dx);
+    }
 
-        // Check for spikes collisions
-        for (Entity entity : entities) {
-            if (entity instanceof Spikes && potentialPosition.overlaps(entity.getBoundingBox())) {
-                return true; // Would collide with a spike
+    @Override
+    public float sweepAgainstSpikesY(float x, float y, float width, float height, float dy) {
+        return getSpikesIndex().sweepY(x, y, width, height, dy);
+    }
+
+    // Spikes never move, so their hitboxes are re-indexed only after spikes join or leave
+    private StaticObstacleIndex getSpikesIndex() {
+        if (spikesIndexDirty) {
+            spikesIndex.clear();
+            List<Spikes> spikesList = getEntitiesOfType(Spikes.class);
+            for (int i = 0; i < spikesList.size(); i++) {
+                Rectangle hitbox = spikesList.get(i).getBounds();
+                spikesIndex.add(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
             }
+            spikesIndexDirty = false;
         }
+        return spikesIndex;
+    }
 
-        return false; // No collision would occur
+    @Override
+    protected void onEntityInserted(Entity entity) {
+        if (entity instanceof Spikes) {
+            spikesIndexDirty = true;
+            ((Spikes) entity).scheduleExpiry(scheduler); // Lifetimes count from when the spikes joins
+        } else if (entity instanceof Balloon) {
+            registerBalloon((Balloon) entity);
+        }
     }
 
     public void spawnPlayer(float x, float y, float speed, iInputManager inputManager) {
@@ -109,8 +162,8 @@ public class GameEntityManager extends AbstractEntityManager implements iCollisi
 
     // Spawn player at bottom center
     public void spawnPlayers(int count, iInputManager inputManager) {
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
+        float screenWidth = GameWorld.getWidth();
+        float screenHeight = GameWorld.getHeight();
         int playerSize = 50; // Adjust based on actual player size
 
         // Calculate the bottom quarter position
@@ -122,155 +175,74 @@ public class GameEntityManager extends AbstractEntityManager implements iCollisi
         float playerY = bottomQuarterYMax / 2; // Middle of bottom quarter
 
         spawnPlayer(playerX, playerY, 200, inputManager);
-        System.out.println("Spawned Player at: " + playerX + ", " + playerY);
+        GameLog.info("Spawned Player at: " + playerX + ", " + playerY);
     }
 
     public void spawnSpikes(float x, float y) {
-        addEntity(new Spikes(x, y));
+        addEntity(pools.obtainSpikes(x, y));
     }
 
     // Updated method to spawn spikes anywhere on screen except near the player
     public void spawnSpikes(int count) {
         // Get screen dimensions
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
+        float screenWidth = GameWorld.getWidth();
+        float screenHeight = GameWorld.getHeight();
 
         // Calculate the top quarter boundary - spikes won't spawn above this line
         float topQuarterBoundary = screenHeight * 0.75f;
 
-        // Find player position to avoid spawning spikes on top of them
-        Player player = null;
-        for (Entity entity : getEntities()) {
-            if (entity instanceof Player) {
-                player = (Player) entity;
-                break;
-            }
-        }
-
-        // Buffer distance to keep between spikes and player
-        float safeDistance = 100;
-
-        // Keep track of placed spikes to avoid overlapping spikes
-        List<Rectangle> placedSpikesBounds = new ArrayList<>();
-
-        // Try to place each spike
-        int spikesPlaced = 0;
-        int maxAttempts = 100; // Prevent infinite loops
-
-        for (int i = 0; i < count; i++) {
-            boolean validPosition = false;
-            int attempts = 0;
-            float x = 0, y = 0;
-
-            while (!validPosition && attempts < maxAttempts) {
-                // Generate random position but restrict Y to be below the top quarter
-                x = MathUtils.random(50, screenWidth - 50);
-                y = MathUtils.random(50, topQuarterBoundary - 50); // Keep below top quarter boundary
-
-                // Create a rectangle for this potential spike position
-                Rectangle potentialSpikesBounds = new Rectangle(x, y, 50, 50);
-
-                // Assume position is valid until proven otherwise
-                validPosition = true;
-
-                // Check if too close to player
-                if (player != null) {
-                    float playerDistance = Vector2.dst(x, y, player.getX(), player.getY());
-                    if (playerDistance < safeDistance) {
-                        validPosition = false;
-                        attempts++;
-                        continue;
-                    }
-                }
-
-                // Check if too close to balloon rows
-                for (Entity entity : getEntities()) {
-                    if (entity instanceof Balloon && potentialSpikesBounds.overlaps(entity.getBoundingBox())) {
-                        validPosition = false;
-                        break;
-                    }
-                }
+        // Sample spikes corners below the top quarter, keeping the screen margin
+        placementSampler.reset(50, 50, screenWidth - 50, topQuarterBoundary - 50);
 
-                // Check if overlapping with existing spikes
-                for (Rectangle existingSpikes : placedSpikesBounds) {
-                    if (existingSpikes.overlaps(potentialSpikesBounds)) {
-                        validPosition = false;
-                        break;
-                    }
-                }
-
-                attempts++;
-            }
-
-            // If we found a valid position, place the spikes
-            if (validPosition) {
-                Spikes spikes = new Spikes(x, y);
-                spikes.setLifetime(SPIKES_LIFETIME);
-                addEntity(spikes);
-                placedSpikesBounds.add(new Rectangle(x, y, 50, 50));
-                spikesPlaced++;
-            }
+        // Keep spikes away from the player
+        Player player = getFirstOfType(Player.class);
+        if (player != null) {
+            placementSampler.blockCircle(player.getX(), player.getY(), PLAYER_SAFE_DISTANCE);
         }
 
-        System.out.println("Spawned " + spikesPlaced + " spikes below the top quarter of the screen");
-    }
+        // Keep spikes off the balloon rows; a corner in this area would make the boxes overlap
+        List<Balloon> balloons = getEntitiesOfType(Balloon.class);
+        for (int i = 0; i < balloons.size(); i++) {
+            Balloon balloon = balloons.get(i);
+            placementSampler.blockRect(balloon.getX() - SPIKES_SIZE, balloon.getY() - SPIKES_SIZE,
+                    balloon.getWidth() + SPIKES_SIZE, balloon.getHeight() + SPIKES_SIZE);
+        }
 
-    private void removeExpiredSpikes(float deltaTime) {
-        for (Entity entity : getEntities()) {
-            if (entity instanceof Spikes) {
-                Spikes spikes = (Spikes) entity;
-                spikes.updateLifeTime(deltaTime);
-                if (spikes.isExpired()) {
-                    entity.setActive(false);
-                }
-            }
+        // Spacing between points keeps the new spikes from overlapping each other
+        int spikesPlaced = placementSampler.sample(count, placementPoints);
+        for (int i = 0; i < spikesPlaced; i++) {
+            Spikes spikes = pools.obtainSpikes(placementPoints.get(i * 2), placementPoints.get(i * 2 + 1));
+            spikes.setLifetime(tuning.getSpikesLifetime());
+            addEntity(spikes);
         }
+
+        GameLog.info("Spawned " + spikesPlaced + " spikes below the top quarter of the screen");
     }
 
     public void spawnBalloonsRow() {
         float startX = 0; // Starting X position
-        float topYPosition = Gdx.graphics.getHeight() + (Balloon.getBalloonWidth() / 2); // Place it just outside the
+        float topYPosition = GameWorld.getHeight() + (Balloon.getBalloonWidth() / 2); // Place it just outside the
                                                                                          // screen
 
-        // Spawn balloons in a row
+        // Spawn balloons in a row; the row starts moving once its balloons join the game
+        BalloonRow row = pools.obtainRow(topYPosition);
         for (int i = 0; i < NUM_BALLOONS; i++) {
             float xPosition = startX + i * (Balloon.getBalloonWidth() * (1 + GAP_RATIO));
-            addEntity(new Balloon(xPosition, topYPosition));
+            Balloon balloon = pools.obtainBalloon(xPosition, topYPosition, random, tuning);
+            row.add(balloon);
+            addEntity(balloon);
         }
 
         rowsSpawned++;
-
-        // Start falling animation for previous row
-        makeBalloonsFall();
-    }
-
-    // Makes all active balloons fall down
-    private void makeBalloonsFall() {
-        for (Entity entity : getEntities()) {
-            if (entity instanceof Balloon) {
-                ((Balloon) entity).moveAIControlled();
-            }
-        }
     }
 
     // Remove all balloons in the same row as the collided balloon
     public void removeBalloonRow(Balloon collidedBalloon) {
-        float rowY = collidedBalloon.getY(); // Get Y position of the collided balloon
-
-        // Just remove all balloons in the same row
-        List<Balloon> balloonsToRemove = new ArrayList<>();
-
-        // Identify all balloons to remove
-        for (Entity entity : getEntities()) {
-            if (entity instanceof Balloon && entity.getY() == rowY) {
-                Balloon balloon = (Balloon) entity;
-                balloonsToRemove.add(balloon);
-            }
-        }
-
-        // Remove the balloons
-        for (Balloon balloon : balloonsToRemove) {
-            balloon.setActive(false);
+        BalloonRow row = collidedBalloon.getRow();
+        if (row != null) {
+            row.clear();
+        } else {
+            collidedBalloon.setActive(false);
         }
     }
 
@@ -278,45 +250,82 @@ public class GameEntityManager extends AbstractEntityManager implements iCollisi
     private void removeRowIfAtBottomAndSpawn() {
         float bottomThreshold = 0; // bottom of the screen
 
-        List<Float> rowYs = new ArrayList<>();
-        for (Entity e : getEntities()) {
-            if (e instanceof Balloon) {
-                float y = e.getY();
-                if (!rowYs.contains(y))
-                    rowYs.add(y);
+        // Rows spawned below are appended, so only the current ones are checked
+        int rowCount = rows.size;
+        for (int i = 0; i < rowCount; i++) {
+            BalloonRow row = rows.get(i);
+            if (!row.isCleared() && row.getY() <= bottomThreshold) {
+                // Remove and spawn
+                row.clear();
+                spawnBalloonsRow();
             }
         }
+    }
 
-        for (float rowY : rowYs) {
-            List<Balloon> rowBalloons = new ArrayList<>();
-            for (Entity e : getEntities()) {
-                if (e instanceof Balloon && e.getY() == rowY) {
-                    rowBalloons.add((Balloon) e);
+    // Puts a balloon that joined the game into its row and the motion system
+    private void registerBalloon(Balloon balloon) {
+        BalloonRow row = balloon.getRow();
+        if (row == null) {
+            // Balloons restored from a saved state are regrouped by height
+            for (int i = 0; i < rows.size && row == null; i++) {
+                if (Math.abs(rows.get(i).getY() - balloon.getY()) <= ROW_SNAP_DISTANCE) {
+                    row = rows.get(i);
                 }
             }
+            if (row == null) {
+                row = pools.obtainRow(balloon.getY());
+            }
+            row.add(balloon);
+        }
+        balloonMotion.add(balloon);
+        if (!row.isRegistered()) {
+            row.setRegistered(true);
+            rows.add(row);
+        }
+    }
 
-            if (!rowBalloons.isEmpty() && rowBalloons.get(0).getY() <= bottomThreshold) {
-                // Remove and spawn
-                for (Balloon balloon : rowBalloons) {
-                    balloon.setActive(false);
-                }
-                spawnBalloonsRow();
+    // Takes a balloon that left the game out of the motion system and its row, dropping the row once empty
+    private void unregisterBalloon(Balloon balloon) {
+        balloonMotion.remove(balloon);
+        BalloonRow row = balloon.getRow();
+        if (row == null) {
+            return;
+        }
+        row.remove(balloon);
+        if (row.isEmpty()) {
+            if (row.isRegistered()) {
+                rows.removeValue(row, true);
             }
+            pools.freeRow(row);
         }
     }
 
     // Method to spawn a power-up
     public void spawnPowerUp() {
-        float screenWidth = Gdx.graphics.getWidth();
-        float topYPosition = Gdx.graphics.getHeight() + 20; // Just above screen
+        float screenWidth = GameWorld.getWidth();
+        float screenHeight = GameWorld.getHeight();
+        float topYPosition = screenHeight + 20; // Just above screen
+
+        // Pick a column along the top, avoiding power-ups that are still near the top
+        placementSampler.reset(50, topYPosition, screenWidth - 50, topYPosition);
+        List<PowerUp> powerUps = getEntitiesOfType(PowerUp.class);
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp other = powerUps.get(i);
+            if (other.getY() > screenHeight / 2) {
+                placementSampler.blockRect(other.getX() - other.getWidth(), topYPosition,
+                        other.getWidth() * 2, 0);
+            }
+        }
 
-        // Randomly position the power-up horizontally
-        float xPosition = MathUtils.random(50, screenWidth - 50);
+        // Fall back to any position if every column is taken
+        float xPosition = placementSampler.randomFreePoint(placementPoint)
+                ? placementPoint.x
+                : random.range(RandomStream.SPAWN, 50, screenWidth - 50);
 
-        PowerUp powerUp = PowerUp.createRandomPowerUp(xPosition, topYPosition);
+        PowerUp powerUp = pools.obtainPowerUp(xPosition, topYPosition, PowerUp.randomType(random));
         addEntity(powerUp);
 
-        System.out.println("Spawned PowerUp of type: " +
+        GameLog.info("Spawned PowerUp of type: " +
                 (powerUp.getType() == PowerUpType.DOUBLE_POINTS ? "Double Points"
                         : powerUp.getType() == PowerUpType.EXTEND_TIME ? "Extend Time"
                                 : powerUp.getType() == PowerUpType.REDUCE_TIME ? "Reduce Time"
@@ -325,9 +334,61 @@ public class GameEntityManager extends AbstractEntityManager implements iCollisi
                                                         : "Unknown"));
     }
 
+    // Method to spawn a pooled power-up effect
+    public void spawnPowerUpEffect(float x, float y, String text, Color color, float duration) {
+        addEntity(pools.obtainEffect(x, y, text, color, duration));
+    }
+
+    // Returns pooled entity types to their pools instead of disposing them
+    @Override
+    protected void releaseEntity(Entity entity) {
+        if (entity instanceof Spikes) {
+            spikesIndexDirty = true;
+            ((Spikes) entity).cancelExpiry();
+        } else if (entity instanceof Balloon) {
+            unregisterBalloon((Balloon) entity);
+        }
+        if (!pools.free(entity)) {
+            entity.dispose();
+        }
+    }
+
+    // Generator behind this manager's spawns, for entities created outside them
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public GameTuning getTuning() {
+        return tuning;
+    }
+
+    // Restarts both spawn intervals from now
     public void resetSpawnTimers() {
-        spikesSpawnTimer = 0;
-        powerUpSpawnTimer = 0;
+        resumeSpawnTimers(tuning.getSpikesSpawnInterval(), tuning.getPowerUpSpawnInterval());
+    }
+
+    /**
+     * Schedules the next spikes wave and power-up roll, e.g. with the time
+     * that was left on them when the game was paused
+     *
+     * @param spikesWaveIn  Seconds until the next spikes wave
+     * @param powerUpRollIn Seconds until the next power-up roll
+     */
+    public void resumeSpawnTimers(float spikesWaveIn, float powerUpRollIn) {
+        scheduler.cancel(spikesWaveEvent);
+        scheduler.cancel(powerUpRollEvent);
+        spikesWaveEvent = scheduler.schedule(spikesWaveIn, spikesWave);
+        powerUpRollEvent = scheduler.schedule(powerUpRollIn, powerUpRoll);
+    }
+
+    // Seconds until the next spikes wave
+    public float getSpikesWaveRemaining() {
+        return scheduler.getRemaining(spikesWaveEvent);
+    }
+
+    // Seconds until the next power-up roll
+    public float getPowerUpRollRemaining() {
+        return scheduler.getRemaining(powerUpRollEvent);
     }
 
     // Set EntityScoreHandler reference after initialization if needed
@@ -335,10 +396,13 @@ public class GameEntityManager extends AbstractEntityManager implements iCollisi
         this.scoreHandler = scoreHandler;
     }
 
+    // Removes every entity and releases the pooled instances; the manager stays usable
     @Override
     public void dispose() {
-        for (Entity entity : getEntities()) {
-            entity.dispose();
+        List<Entity> remaining = new ArrayList<>(getEntities());
+        for (Entity entity : remaining) {
+            removeEntity(entity);
         }
+        pools.clear();
     }
 }
\ No newline at end of file
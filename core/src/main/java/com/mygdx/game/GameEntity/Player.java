@@ -1,17 +1,20 @@
 package com.mygdx.game.GameEntity;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
 import com.mygdx.game.AbstractEntity.MovableEntity;
+import com.mygdx.game.AbstractEntity.RenderQueue;
 import com.mygdx.game.AbstractEntity.iCollidable;
 import com.mygdx.game.AbstractIO.iInputManager;
+import com.mygdx.game.GameCollision.CollisionLayers;
 import com.mygdx.game.GameCollision.iCollisionCallback;
+import com.mygdx.game.util.AssetManager;
+import com.mygdx.game.util.GameLog;
+import com.mygdx.game.util.GameWorld;
 
 public class Player extends MovableEntity {
     // Changed to private for proper encapsulation
-    private Texture texture;
+    private TextureRegion sprite;
     private iInputManager inputManager; // Properly encapsulated
     private iCollisionCallback collisionCallback; // Properly encapsulated
 
@@ -23,8 +26,9 @@ public class Player extends MovableEntity {
 
     public Player(float x, float y, float speed, iInputManager inputManager) {
         super(x, y, speed);
-        this.texture = new Texture(Gdx.files.internal("player.png"));
+        this.sprite = AssetManager.getInstance().getSprite(EntityAssets.PLAYER_TEXTURE);
         this.inputManager = inputManager;
+        setCollisionFilter(CollisionLayers.PLAYER, CollisionLayers.PLAYER_MASK);
 
         // Explicitly set previous position to match current position
         setPreviousPosition(x, y);
@@ -34,15 +38,15 @@ public class Player extends MovableEntity {
         setHeight(50);
 
         // Set the movement boundary at 3/4 of the screen height
-        this.MAX_Y_POSITION = Gdx.graphics.getHeight() * 0.75f - getHeight();
+        this.MAX_Y_POSITION = GameWorld.getHeight() * 0.75f - getHeight();
     }
 
     @Override
     public void handleCollision(iCollidable other) {
         if (other instanceof Spikes) {
-            System.out.println("Player collided with spikes!");
+            GameLog.info("Player collided with spikes!");
         } else if (other instanceof Balloon) {
-            System.out.println("Player collected a balloon: " + ((Balloon) other).getValue());
+            GameLog.info("Player collected a balloon: " + ((Balloon) other).getValue());
         }
     }
 
@@ -52,7 +56,17 @@ public class Player extends MovableEntity {
     }
 
     public void draw(SpriteBatch batch) { // Draw player image
-        batch.draw(texture, getX(), getY(), getWidth(), getHeight());
+        batch.draw(sprite, getDrawX(), getDrawY(), getWidth(), getHeight());
+    }
+
+    @Override
+    public void draw(RenderQueue queue) {
+        queue.draw(getRenderLayer(), sprite, getDrawX(), getDrawY(), getWidth(), getHeight());
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return RenderLayers.PLAYER;
     }
 
     @Override
@@ -78,13 +92,14 @@ public class Player extends MovableEntity {
         if (horizontal != 0) {
             float newX = getX() + getSpeed() * deltaTime * horizontal;
             // Ensure entity stays within screen bounds
-            newX = Math.max(0, Math.min(newX, Gdx.graphics.getWidth() - getWidth()));
+            newX = Math.max(0, Math.min(newX, GameWorld.getWidth() - getWidth()));
 
-            // Check collision using the callback
-            if (collisionCallback == null
-                    || !collisionCallback.wouldCollideWithSpikes(newX, getY(), getWidth(), getHeight())) {
-                setX(newX); // Only move if no collision would occur or no callback is set
+            // Move as far as possible, stopping flush against any spikes in the way
+            float dx = newX - getX();
+            if (collisionCallback != null) {
+                dx = collisionCallback.sweepAgainstSpikesX(getX(), getY(), getWidth(), getHeight(), dx);
             }
+            setX(getX() + dx);
         }
 
         // Try moving vertically
@@ -93,16 +108,17 @@ public class Player extends MovableEntity {
             // Ensure player stays within vertical bounds
             newY = Math.max(0, Math.min(newY, MAX_Y_POSITION));
 
-            // Check collision using the callback
-            if (collisionCallback == null
-                    || !collisionCallback.wouldCollideWithSpikes(getX(), newY, getWidth(), getHeight())) {
-                setY(newY); // Only move if no collision would occur or no callback is set
+            // Move as far as possible, so blocked movement slides along the spikes
+            float dy = newY - getY();
+            if (collisionCallback != null) {
+                dy = collisionCallback.sweepAgainstSpikesY(getX(), getY(), getWidth(), getHeight(), dy);
             }
+            setY(getY() + dy);
         }
     }
 
     @Override
-    public void moveAIControlled() {
+    public void moveAIControlled(float deltaTime) {
         // Not used for Player
     }
 
@@ -160,10 +176,6 @@ public class Player extends MovableEntity {
         return inputManager;
     }
 
-    @Override
-    public Rectangle getBoundingBox() {
-        return new Rectangle(getX(), getY(), getWidth(), getHeight());
-    }
 
     @Override
     public void setPosition(float x, float y) {
@@ -179,8 +191,7 @@ public class Player extends MovableEntity {
 
     @Override
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        // The sprite is shared through the AssetManager and released by the owning scene
+        sprite = null;
     }
 }
\ No newline at end of file
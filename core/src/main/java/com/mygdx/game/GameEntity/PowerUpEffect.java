@@ -3,11 +3,15 @@ package com.mygdx.game.GameEntity;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.AbstractEntity.Entity;
+import com.mygdx.game.AbstractEntity.RenderQueue;
 import com.mygdx.game.AbstractEntity.iCollidable;
+import com.mygdx.game.GameCollision.CollisionLayers;
+import com.mygdx.game.util.AssetManager;
 
 // Visual effect that appears when a power-up is collected
-public class PowerUpEffect extends Entity {
+public class PowerUpEffect extends Entity implements Pool.Poolable {
     private float alpha = 1.0f; // Alpha value for fading effect
 
     private String text; // Text to display effect
@@ -16,18 +20,41 @@ public class PowerUpEffect extends Entity {
 
     // Color and font for text
     private Color color;
+    private final Color fadedColor = new Color(); // Text colour with the current fade applied
     private BitmapFont font;
 
     public PowerUpEffect(float x, float y, String text, Color color, float duration) {
-        super(x, y);
+        this();
+        init(x, y, text, color, duration);
+    }
+
+    // Creates an effect with its font loaded; used by the entity pool
+    public PowerUpEffect() {
+        super(0, 0);
+        this.color = new Color();
+        setCollisionFilter(CollisionLayers.NONE, CollisionLayers.NONE); // Purely visual
+
+        this.font = AssetManager.getInstance().getDefaultFont(EntityAssets.EFFECT_FONT_SCALE);
+    }
+
+    // Starts a pooled effect at the given position
+    public PowerUpEffect init(float x, float y, String text, Color color, float duration) {
+        setPosition(x, y);
         this.text = text;
-        this.color = new Color(color);
+        this.color.set(color);
         this.maxLifeTime = duration;
         this.lifeTime = 0;
+        this.alpha = 1.0f;
+        return this;
+    }
 
-        this.font = new BitmapFont();
-        this.font.setColor(this.color);
-        this.font.getData().setScale(1.5f);
+    // Clears state when the effect is returned to its pool
+    @Override
+    public void reset() {
+        resetEntity();
+        this.text = null;
+        this.lifeTime = 0;
+        this.alpha = 1.0f;
     }
 
     @Override
@@ -56,7 +83,19 @@ public class PowerUpEffect extends Entity {
         font.setColor(color.r, color.g, color.b, alpha);
 
         // Draw text
-        font.draw(batch, text, getX(), getY());
+        font.draw(batch, text, getDrawX(), getDrawY());
+    }
+
+    @Override
+    public void draw(RenderQueue queue) {
+        // The queue applies the faded colour when the text is drawn
+        fadedColor.set(color.r, color.g, color.b, alpha);
+        queue.drawText(getRenderLayer(), font, text, getDrawX(), getDrawY(), fadedColor);
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return RenderLayers.EFFECTS;
     }
 
     @Override
@@ -81,8 +120,7 @@ public class PowerUpEffect extends Entity {
 
     @Override
     public void dispose() {
-        if (font != null) {
-            font.dispose();
-        }
+        // The font is shared through the AssetManager and released by the owning scene
+        font = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.mygdx.game.GameEntity;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.mygdx.game.GamePowerups.PowerUpType;
+import com.mygdx.game.util.AssetManager;
+import com.mygdx.game.util.FrameBufferAtlas;
+
+/**
+ * Power-up stars baked into a FrameBufferAtlas.
+ * Each PowerUpType's star fill, outline and symbol are drawn once when the
+ * game scene loads, so power-ups draw as one quad inside the normal
+ * SpriteBatch pass instead of switching to a ShapeRenderer every frame.
+ */
+public class PowerUpSprites {
+    private static final float STAR_INNER_RATIO = 0.6f; // Fuller star ratio
+    private static final int STAR_POINTS = 5;
+
+    // Room around the star for its outline
+    public static final int MARGIN = 1;
+    private static final int SPRITE_SIZE = (int) Math.ceil(PowerUp.POWERUP_SIZE) + MARGIN * 2;
+
+    private static PowerUpSprites instance;
+
+    private final TextureRegion[] sprites = new TextureRegion[PowerUpType.values().length]; // By type ordinal
+    private FrameBufferAtlas atlas;
+
+    private PowerUpSprites() {
+        // Private constructor for singleton
+    }
+
+    public static PowerUpSprites getInstance() {
+        if (instance == null) {
+            instance = new PowerUpSprites();
+        }
+        return instance;
+    }
+
+    // Bakes every power-up star; call outside any batch. Does nothing if already baked
+    public void load() {
+        if (atlas != null) {
+            return;
+        }
+        // Stars sit side by side on shelves, four to a row
+        atlas = new FrameBufferAtlas(256, 128);
+        BitmapFont font = AssetManager.getInstance().getDefaultFont(EntityAssets.POWERUP_FONT_SCALE);
+        GlyphLayout layout = new GlyphLayout();
+        ShapeRenderer shapes = new ShapeRenderer();
+
+        atlas.begin();
+        for (PowerUpType type : PowerUpType.values()) {
+            sprites[type.ordinal()] = atlas.add(SPRITE_SIZE, SPRITE_SIZE, (batch, x, y, width, height) -> {
+                float centerX = x + width / 2f;
+                float centerY = y + height / 2f;
+                float outerRadius = PowerUp.POWERUP_SIZE / 2;
+                float innerRadius = PowerUp.POWERUP_SIZE * STAR_INNER_RATIO / 2;
+
+                // Shapes need their own renderer, so pause the atlas batch around them
+                batch.end();
+                shapes.setProjectionMatrix(batch.getProjectionMatrix());
+                shapes.begin(ShapeRenderer.ShapeType.Filled);
+                drawStar(shapes, centerX, centerY, outerRadius, innerRadius, type.getColor());
+                shapes.end();
+
+                // Black outline for all stars
+                shapes.begin(ShapeRenderer.ShapeType.Line);
+                drawStar(shapes, centerX, centerY, outerRadius, innerRadius, Color.BLACK);
+                shapes.end();
+                batch.begin();
+
+                // White symbol centered in the star for all power-ups
+                font.setColor(Color.WHITE);
+                layout.setText(font, type.getSymbol());
+                font.draw(batch, type.getSymbol(), centerX - layout.width / 2, centerY + layout.height / 2);
+            });
+        }
+        atlas.end();
+        shapes.dispose();
+    }
+
+    /**
+     * Gets the baked star of a power-up type
+     *
+     * @param type The power-up type
+     * @return The star, or null if load() has not run
+     */
+    public TextureRegion get(PowerUpType type) {
+        return sprites[type.ordinal()];
+    }
+
+    // Releases the atlas; load() bakes the stars again
+    public void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = null;
+        }
+    }
+
+    // Draws a star as triangles fanned from its center
+    private static void drawStar(ShapeRenderer shapes, float x, float y, float outerRadius, float innerRadius,
+            Color color) {
+        shapes.setColor(color);
+
+        float angle = 0;
+        float angleIncrement = (float) (2 * Math.PI / STAR_POINTS);
+
+        for (int i = 0; i < STAR_POINTS; i++) {
+            // Outer point
+            float outerX = x + (float) Math.cos(angle) * outerRadius;
+            float outerY = y + (float) Math.sin(angle) * outerRadius;
+
+            // Inner point
+            float innerAngle = angle + angleIncrement / 2;
+            float innerX = x + (float) Math.cos(innerAngle) * innerRadius;
+            float innerY = y + (float) Math.sin(innerAngle) * innerRadius;
+
+            if (i == 0) {
+                shapes.triangle(x, y, outerX, outerY, innerX, innerY);
+            } else {
+                float prevOuterX = x + (float) Math.cos(angle - angleIncrement) * outerRadius;
+                float prevOuterY = y + (float) Math.sin(angle - angleIncrement) * outerRadius;
+
+                shapes.triangle(x, y, prevOuterX, prevOuterY, innerX, innerY);
+                shapes.triangle(x, y, outerX, outerY, innerX, innerY);
+            }
+
+            angle += angleIncrement;
+        }
+
+        // Connect the last and first points
+        float lastInnerX = x + (float) Math.cos(angle - angleIncrement / 2) * innerRadius;
+        float lastInnerY = y + (float) Math.sin(angle - angleIncrement / 2) * innerRadius;
+
+        shapes.triangle(x, y, lastInnerX, lastInnerY, x + outerRadius, y);
+    }
+}
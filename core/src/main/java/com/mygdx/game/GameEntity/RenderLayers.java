@@ -0,0 +1,18 @@
+package com.mygdx.game.GameEntity;
+
+/**
+ * Draw order of the game entities; higher layers are drawn on top.
+ * Within a layer, sprites sharing a texture are drawn together.
+ */
+public final class RenderLayers {
+    public static final int SPIKES = 0;
+    public static final int BALLOONS = 1;
+    public static final int BALLOON_LABELS = 2;
+    public static final int POWERUPS = 3;
+    public static final int PLAYER = 4;
+    public static final int EFFECTS = 5;
+
+    private RenderLayers() {
+        // Constants holder
+    }
+}
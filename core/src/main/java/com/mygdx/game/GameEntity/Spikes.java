@@ -1,29 +1,54 @@
 package com.mygdx.game.GameEntity;
 
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.AbstractEntity.StaticObject;
 import com.mygdx.game.AbstractEntity.iCollidable;
+import com.mygdx.game.GameCollision.CollisionLayers;
+import com.mygdx.game.util.EventScheduler;
+
+public class Spikes extends StaticObject implements Pool.Poolable {
+    // Hitbox is shrunk by this many pixels on every side for a fairer collision feel
+    public static final float HITBOX_INSET = 5f;
 
-public class Spikes extends StaticObject {
     private float lifetime;
     private boolean isTemporary = false;
+    private EventScheduler expiryScheduler; // Scheduler holding the expiry event, while one is pending
+    private long expiryEvent = EventScheduler.NONE;
+    private final Runnable expire = () -> setActive(false); // Created once per pooled instance
 
     public Spikes(float x, float y) {
-        super(x, y, 50, 50, "spike.png"); // Spikes has a default size and texture
+        super(x, y, 50, 50, EntityAssets.SPIKES_TEXTURE); // Spikes has a default size and texture
+        setCollisionFilter(CollisionLayers.SPIKES, CollisionLayers.SPIKES_MASK);
+        setHitboxInset(HITBOX_INSET); // Slightly smaller hitbox for better collision feel
         this.lifetime = -1; // Default: spikes does not expire unless set
     }
 
+    // Moves a pooled spikes into place with no lifetime set
+    public Spikes init(float x, float y) {
+        setPosition(x, y);
+        this.lifetime = -1;
+        this.isTemporary = false;
+        return this;
+    }
+
+    // Clears lifetime state when the spikes is returned to its pool
     @Override
-    public void handleCollision(iCollidable other) {
-        // Spikes don't need to print anything since other entities handle the printing
-        // This matches the original behavior where spikes didn't print messages
+    public void reset() {
+        cancelExpiry();
+        resetEntity();
+        this.lifetime = -1;
+        this.isTemporary = false;
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return RenderLayers.SPIKES;
     }
 
     @Override
-    public Rectangle getBoundingBox() {
-        // Return a slightly smaller bounding box for better collision feel
-        // This creates a 5-pixel "buffer" around the spikes
-        return new Rectangle(getX() + 5, getY() + 5, getWidth() - 10, getHeight() - 10);
+    public void handleCollision(iCollidable other) {
+        // Spikes don't need to print anything since other entities handle the printing
+        // This matches the original behavior where spikes didn't print messages
     }
 
     public void setLifetime(float time) {
@@ -31,17 +56,30 @@ public class Spikes extends StaticObject {
         this.isTemporary = true;
     }
 
-    public void updateLifeTime(float deltaTime) {
-        if (isTemporary && lifetime > 0) {
-            lifetime -= deltaTime;
+    // Schedules this spikes to deactivate once its lifetime runs out; permanent spikes are ignored
+    public void scheduleExpiry(EventScheduler scheduler) {
+        if (!isTemporary) {
+            return;
         }
+        cancelExpiry();
+        expiryScheduler = scheduler;
+        expiryEvent = scheduler.schedule(lifetime, expire);
     }
 
-    public boolean isExpired() {
-        return isTemporary && lifetime <= 0;
+    // Drops the pending expiry, e.g. when the spikes leaves the game early
+    public void cancelExpiry() {
+        if (expiryScheduler != null) {
+            expiryScheduler.cancel(expiryEvent);
+            expiryScheduler = null;
+            expiryEvent = EventScheduler.NONE;
+        }
     }
 
+    // Gets the lifetime left, counting down once the expiry is scheduled
     public float getLifeTime() {
+        if (expiryScheduler != null && expiryScheduler.isScheduled(expiryEvent)) {
+            return expiryScheduler.getRemaining(expiryEvent);
+        }
         return lifetime;
     }
 
@@ -0,0 +1,55 @@
+package com.mygdx.game.GameIO;
+
+import com.badlogic.gdx.utils.IntSet;
+import com.mygdx.game.AbstractIO.iInputManager;
+
+/**
+ * Input manager driven by code instead of devices, so a simulation can steer
+ * the player without a window or controller
+ */
+public class HeadlessInputManager implements iInputManager {
+    private float moveX, moveY; // Current movement axes, -1 to 1
+    private final IntSet pressedActions = new IntSet(); // Action codes held down
+
+    // Sets the movement axes the player reads on the next update
+    public void setMove(float moveX, float moveY) {
+        this.moveX = Math.max(-1, Math.min(moveX, 1));
+        this.moveY = Math.max(-1, Math.min(moveY, 1));
+    }
+
+    // Marks an action as held down or released
+    public void setActionPressed(int actionCode, boolean pressed) {
+        if (pressed) {
+            pressedActions.add(actionCode);
+        } else {
+            pressedActions.remove(actionCode);
+        }
+    }
+
+    @Override
+    public boolean isActionPressed(int actionCode) {
+        return pressedActions.contains(actionCode);
+    }
+
+    @Override
+    public void setUseGamepad(boolean b) {
+        // No devices to choose between
+    }
+
+    @Override
+    public float getMoveX() {
+        return moveX;
+    }
+
+    @Override
+    public float getMoveY() {
+        return moveY;
+    }
+
+    @Override
+    public void dispose() {
+        moveX = 0;
+        moveY = 0;
+        pressedActions.clear();
+    }
+}
@@ -11,6 +11,7 @@ import com.mygdx.game.GameEntity.PowerUp;
 import com.mygdx.game.GameIO.GameInputManager;
 import com.mygdx.game.GameIO.GameOutputManager;
 import com.mygdx.game.GameScenes.GameSceneManager;
+import com.mygdx.game.util.AssetManager;
 
 /**
  * {@link com.badlogic.gdx.ApplicationListener} implementation shared by all
@@ -57,5 +58,6 @@ public class GameMaster extends ApplicationAdapter {
             outputManager.dispose();
         if (sceneManager != null)
             sceneManager.dispose();
+        AssetManager.getInstance().dispose();
     }
 }
\ No newline at end of file
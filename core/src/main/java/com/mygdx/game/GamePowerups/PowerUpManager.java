@@ -1,33 +1,41 @@
 package com.mygdx.game.GamePowerups;
 
-import com.mygdx.game.AbstractEntity.Entity;
 import com.mygdx.game.GameEntity.GameEntityManager;
 import com.mygdx.game.GameEntity.Player;
 import com.mygdx.game.GameScenes.iSceneContext;
 import com.mygdx.game.GameState.GameStateManager;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.EventScheduler;
+import com.mygdx.game.util.GameLog;
 
 /**
  * Manages power-ups and their effects in the game.
  * Decoupled from GameScene through the SceneContext interface.
  */
 public class PowerUpManager {
-    // Power-up states
-    private boolean doublePointsActive = false;
-    private float doublePointsTimer = 0;
+    // Timed effects end through scheduled events instead of per-frame timer checks
+    private final EventScheduler effectTimers = new EventScheduler();
 
-    private boolean invertControlsActive = false;
-    private float invertControlsTimer = 0;
-
-    private boolean slowPlayerActive = false;
-    private float slowPlayerTimer = 0;
+    // Pending end event of each timed effect, or EventScheduler.NONE while it is inactive
+    private long doublePointsEnd = EventScheduler.NONE;
+    private long invertControlsEnd = EventScheduler.NONE;
+    private long slowPlayerEnd = EventScheduler.NONE;
     private float originalPlayerSpeed = 200f;
 
+    // Created once so re-activating an effect does not allocate
+    private final Runnable endDoublePoints = this::endDoublePoints;
+    private final Runnable endInvertControls = this::endInvertControls;
+    private final Runnable endSlowPlayer = this::endSlowPlayer;
+
     // Reference to scene context for UI updates and entity management
     private iSceneContext sceneContext;
     
     // The game state manager is just used as a service, not creating a circular dependency
     private GameStateManager gameStateManager;
 
+    // Scales how long timed power-ups last
+    private final GameTuning tuning;
+
     /**
      * Creates a new PowerUpManager
      * 
@@ -35,94 +43,193 @@ public class PowerUpManager {
      * @param gameStateManager The game state manager for time and score manipulation
      */
     public PowerUpManager(iSceneContext sceneContext, GameStateManager gameStateManager) {
+        this(sceneContext, gameStateManager, new GameTuning());
+    }
+
+    /**
+     * Creates a new PowerUpManager with custom power-up durations
+     * 
+     * @param sceneContext The scene context providing necessary callbacks and services
+     * @param gameStateManager The game state manager for time and score manipulation
+     * @param tuning Balance values, including the power-up duration scale
+     */
+    public PowerUpManager(iSceneContext sceneContext, GameStateManager gameStateManager, GameTuning tuning) {
         this.sceneContext = sceneContext;
         this.gameStateManager = gameStateManager;
+        this.tuning = tuning;
     }
 
     /**
-     * Updates all active power-up timers
+     * Advances the effect timers, ending any effect whose time is up
      * 
      * @param deltaTime The time elapsed since the last update
      */
     public void update(float deltaTime) {
-        // Handle double points timer
-        if (doublePointsActive) {
-            doublePointsTimer += deltaTime;
+        effectTimers.advance(deltaTime);
+
+        // Only the countdown needs refreshing while effects run
+        if (isAnyEffectActive()) {
             updatePowerUpLabel();
+        }
+    }
 
-            if (doublePointsTimer >= PowerUpType.DOUBLE_POINTS.getDuration()) {
-                doublePointsActive = false;
-                updatePowerUpLabel();
-                System.out.println("Double Points expired!");
-            }
+    private boolean isAnyEffectActive() {
+        return isDoublePointsActive() || isInvertControlsActive() || isSlowPlayerActive();
+    }
+
+    private boolean isInvertControlsActive() {
+        return effectTimers.isScheduled(invertControlsEnd);
+    }
+
+    private boolean isSlowPlayerActive() {
+        return effectTimers.isScheduled(slowPlayerEnd);
+    }
+
+    private void endDoublePoints() {
+        doublePointsEnd = EventScheduler.NONE;
+        updatePowerUpLabel();
+        GameLog.info("Double Points expired!");
+    }
+
+    private void endInvertControls() {
+        invertControlsEnd = EventScheduler.NONE;
+        // Reset invert flag on all players
+        for (Player player : sceneContext.getEntityManager().getEntitiesOfType(Player.class)) {
+            player.setInvertControls(false);
         }
+        updatePowerUpLabel();
+        GameLog.info("Controls back to normal!");
+    }
 
-        // Handle invert controls timer
-        if (invertControlsActive) {
-            invertControlsTimer += deltaTime;
-            updatePowerUpLabel();
+    private void endSlowPlayer() {
+        slowPlayerEnd = EventScheduler.NONE;
+        // Reset speed on all players
+        for (Player player : sceneContext.getEntityManager().getEntitiesOfType(Player.class)) {
+            player.setSpeed(originalPlayerSpeed);
+        }
+        updatePowerUpLabel();
+        GameLog.info("Player speed back to normal!");
+    }
 
-            if (invertControlsTimer >= PowerUpType.INVERT_CONTROLS.getDuration()) {
-                invertControlsActive = false;
-                // Reset invert flag on all players
-                for (Entity entity : sceneContext.getEntityManager().getEntities()) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        player.setInvertControls(false);
-                    }
-                }
-                updatePowerUpLabel();
-                System.out.println("Controls back to normal!");
-            }
+    /**
+     * Starts or restarts the end event of a timed effect
+     * 
+     * @param handle Current end event of the effect, if any
+     * @param duration Seconds until the effect ends
+     * @param end Action that ends the effect
+     * @return Handle of the new end event
+     */
+    private long restartEffect(long handle, float duration, Runnable end) {
+        effectTimers.cancel(handle);
+        return effectTimers.schedule(duration, end);
+    }
+
+    // Starts double points, or restarts it with a new duration
+    private void startDoublePoints(float duration) {
+        doublePointsEnd = restartEffect(doublePointsEnd, duration, endDoublePoints);
+        updatePowerUpLabel();
+    }
+
+    // Starts inverted controls on every player
+    private void startInvertControls(float duration) {
+        invertControlsEnd = restartEffect(invertControlsEnd, duration, endInvertControls);
+
+        // Set invert flag on all players
+        for (Player player : sceneContext.getEntityManager().getEntitiesOfType(Player.class)) {
+            player.setInvertControls(true);
         }
+        updatePowerUpLabel();
+    }
 
-        // Handle slow player timer
-        if (slowPlayerActive) {
-            slowPlayerTimer += deltaTime;
-            updatePowerUpLabel();
+    // Starts the slow-down on every player
+    private void startSlowPlayer(float duration) {
+        slowPlayerEnd = restartEffect(slowPlayerEnd, duration, endSlowPlayer);
 
-            if (slowPlayerTimer >= PowerUpType.SLOW_PLAYER.getDuration()) {
-                slowPlayerActive = false;
-                // Reset speed on all players
-                for (Entity entity : sceneContext.getEntityManager().getEntities()) {
-                    if (entity instanceof Player) {
-                        Player player = (Player) entity;
-                        player.setSpeed(originalPlayerSpeed);
-                    }
-                }
-                updatePowerUpLabel();
-                System.out.println("Player speed back to normal!");
-            }
+        // Slow down all players
+        for (Player player : sceneContext.getEntityManager().getEntitiesOfType(Player.class)) {
+            originalPlayerSpeed = player.getSpeed();
+            player.setSpeed(originalPlayerSpeed * 0.5f);
+        }
+        updatePowerUpLabel();
+    }
+
+    /**
+     * Gets the time left on a timed effect, e.g. to preserve it while the game is paused
+     * 
+     * @param type The power-up
+     * @return Seconds until the effect ends, or 0 if it is not active or not timed
+     */
+    public float getEffectRemaining(PowerUpType type) {
+        switch (type) {
+            case DOUBLE_POINTS:
+                return effectTimers.getRemaining(doublePointsEnd);
+            case INVERT_CONTROLS:
+                return effectTimers.getRemaining(invertControlsEnd);
+            case SLOW_PLAYER:
+                return effectTimers.getRemaining(slowPlayerEnd);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Restarts a timed effect with the time it had left, e.g. when a paused game resumes.
+     * Players must already be in the game, since the effect is applied to them.
+     * 
+     * @param type The power-up
+     * @param remaining Seconds the effect still runs; nothing happens if this is 0 or less
+     */
+    public void resumeEffect(PowerUpType type, float remaining) {
+        if (remaining <= 0) {
+            return;
+        }
+        switch (type) {
+            case DOUBLE_POINTS:
+                startDoublePoints(remaining);
+                break;
+            case INVERT_CONTROLS:
+                startInvertControls(remaining);
+                break;
+            case SLOW_PLAYER:
+                startSlowPlayer(remaining);
+                break;
+            default:
+                break; // Instant power-ups have nothing to resume
         }
     }
 
+    // Gets the player speed from before the slow-down, while one is active
+    public float getOriginalPlayerSpeed() {
+        return originalPlayerSpeed;
+    }
+
     /**
      * Updates the power-up label to show active effects
      */
     private void updatePowerUpLabel() {
         String labelText = "";
 
-        if (doublePointsActive) {
+        if (isDoublePointsActive()) {
             labelText += "DOUBLE POINTS! ";
-            float remaining = PowerUpType.DOUBLE_POINTS.getDuration() - doublePointsTimer;
+            float remaining = effectTimers.getRemaining(doublePointsEnd);
             labelText += String.format("(%.1fs)", remaining);
         }
 
-        if (invertControlsActive) {
+        if (isInvertControlsActive()) {
             if (!labelText.isEmpty()) {
                 labelText += " | ";
             }
             labelText += "INVERTED CONTROLS! ";
-            float remaining = PowerUpType.INVERT_CONTROLS.getDuration() - invertControlsTimer;
+            float remaining = effectTimers.getRemaining(invertControlsEnd);
             labelText += String.format("(%.1fs)", remaining);
         }
 
-        if (slowPlayerActive) {
+        if (isSlowPlayerActive()) {
             if (!labelText.isEmpty()) {
                 labelText += " | ";
             }
             labelText += "SLOWED! ";
-            float remaining = PowerUpType.SLOW_PLAYER.getDuration() - slowPlayerTimer;
+            float remaining = effectTimers.getRemaining(slowPlayerEnd);
             labelText += String.format("(%.1fs)", remaining);
         }
 
@@ -134,10 +241,8 @@ public class PowerUpManager {
      * Activates double points for a fixed duration
      */
     public void activateDoublePoints() {
-        doublePointsActive = true;
-        doublePointsTimer = 0;
-        updatePowerUpLabel();
-        System.out.println("Double Points activated!");
+        startDoublePoints(tuning.getPowerUpDuration(PowerUpType.DOUBLE_POINTS));
+        GameLog.info("Double Points activated!");
     }
 
     /**
@@ -146,7 +251,7 @@ public class PowerUpManager {
      * @return true if double points is active
      */
     public boolean isDoublePointsActive() {
-        return doublePointsActive;
+        return effectTimers.isScheduled(doublePointsEnd);
     }
 
     /**
@@ -157,7 +262,7 @@ public class PowerUpManager {
     public void extendGameTime(float seconds) {
         gameStateManager.extendGameTime(seconds);
         updatePowerUpLabel();
-        System.out.println("Game time extended by " + seconds + " seconds!");
+        GameLog.info("Game time extended by " + seconds + " seconds!");
     }
 
     /**
@@ -168,46 +273,23 @@ public class PowerUpManager {
     public void reduceGameTime(float seconds) {
         gameStateManager.reduceGameTime(seconds);
         updatePowerUpLabel();
-        System.out.println("Game time reduced by " + seconds + " seconds!");
+        GameLog.info("Game time reduced by " + seconds + " seconds!");
     }
 
     /**
      * Activates inverted controls for a fixed duration
      */
     public void activateInvertControls() {
-        invertControlsActive = true;
-        invertControlsTimer = 0;
-
-        // Set invert flag on all players
-        for (Entity entity : sceneContext.getEntityManager().getEntities()) {
-            if (entity instanceof Player) {
-                Player player = (Player) entity;
-                player.setInvertControls(true);
-            }
-        }
-
-        updatePowerUpLabel();
-        System.out.println("Controls inverted!");
+        startInvertControls(tuning.getPowerUpDuration(PowerUpType.INVERT_CONTROLS));
+        GameLog.info("Controls inverted!");
     }
 
     /**
      * Activates slow player movement for a fixed duration
      */
     public void activateSlowPlayer() {
-        slowPlayerActive = true;
-        slowPlayerTimer = 0;
-
-        // Slow down all players
-        for (Entity entity : sceneContext.getEntityManager().getEntities()) {
-            if (entity instanceof Player) {
-                Player player = (Player) entity;
-                originalPlayerSpeed = player.getSpeed();
-                player.setSpeed(originalPlayerSpeed * 0.5f);
-            }
-        }
-
-        updatePowerUpLabel();
-        System.out.println("Player slowed!");
+        startSlowPlayer(tuning.getPowerUpDuration(PowerUpType.SLOW_PLAYER));
+        GameLog.info("Player slowed!");
     }
 
     /**
@@ -267,7 +349,7 @@ public class PowerUpManager {
                 powerUpType = PowerUpType.SLOW_PLAYER;
                 break;
             default:
-                System.out.println("Unknown power-up type ID: " + powerUpTypeId);
+                GameLog.info("Unknown power-up type ID: " + powerUpTypeId);
                 return;
         }
         
@@ -278,22 +360,17 @@ public class PowerUpManager {
      * Resets all power-up states
      */
     public void resetPowerUps() {
-        doublePointsActive = false;
-        doublePointsTimer = 0;
-        invertControlsActive = false;
-        invertControlsTimer = 0;
-        slowPlayerActive = false;
-        slowPlayerTimer = 0;
+        effectTimers.clear();
+        doublePointsEnd = EventScheduler.NONE;
+        invertControlsEnd = EventScheduler.NONE;
+        slowPlayerEnd = EventScheduler.NONE;
 
         // Reset any player modifications
         GameEntityManager entityManager = sceneContext.getEntityManager();
         if (entityManager != null) {
-            for (Entity entity : entityManager.getEntities()) {
-                if (entity instanceof Player) {
-                    Player player = (Player) entity;
-                    player.setInvertControls(false);
-                    player.setSpeed(originalPlayerSpeed);
-                }
+            for (Player player : entityManager.getEntitiesOfType(Player.class)) {
+                player.setInvertControls(false);
+                player.setSpeed(originalPlayerSpeed);
             }
         }
 
@@ -1,6 +1,7 @@
 package com.mygdx.game.GameScenes;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import com.badlogic.gdx.Input;
 import com.mygdx.game.AbstractEntity.Entity;
@@ -10,6 +11,7 @@ import com.mygdx.game.GameEntity.GameEntityManager;
 import com.mygdx.game.GameEntity.Player;
 import com.mygdx.game.GamePowerups.PowerUpManager;
 import com.mygdx.game.GameState.GameStateManager;
+import com.mygdx.game.util.GameLog;
 
 /**
  * Handles the main game loop logic including entity updates and collision
@@ -22,7 +24,11 @@ public class GameLoopHandler {
     private PowerUpManager powerUpManager;
     private iInputManager inputManager;
 
+    private static final float TICK = 1f / 120f; // Fixed simulation step in seconds
+    private static final float MAX_FRAME_TIME = 0.25f; // Longest frame time simulated at once
+
     private boolean gameActive = true;
+    private float accumulator = 0; // Frame time not yet simulated
 
     /**
      * Creates a new game loop handler
@@ -47,7 +53,8 @@ public class GameLoopHandler {
     }
 
     /**
-     * Updates the game state for a single frame
+     * Advances the simulation by the frame time in fixed ticks, so movement and
+     * collisions do not depend on the frame rate
      * 
      * @param delta The time elapsed since the last update
      * @return true if the game is still active, false if game over
@@ -57,47 +64,90 @@ public class GameLoopHandler {
             return false;
         }
 
+        // Clamp long frames (e.g. after a hitch) so the game does not spiral catching up
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        while (accumulator >= TICK) {
+            accumulator -= TICK;
+            if (!tick(TICK)) {
+                // Game is no longer active (game over)
+                return false;
+            }
+        }
+
+        // Handle escape key
+        if (inputManager.isActionPressed(Input.Keys.ESCAPE)) {
+            gameStateManager.pauseGame();
+            return false; // Signal to open pause menu
+        }
+
+        return true;
+    }
+
+    /**
+     * Runs one fixed simulation step
+     * 
+     * @param step The fixed tick length
+     * @return true if the game is still active, false if game over
+     */
+    private boolean tick(float step) {
         // Update game state
-        boolean stillActive = gameStateManager.update(delta);
+        if (!gameStateManager.update(step)) {
+            return false;
+        }
+
+        // Rendering blends from these positions to the ones reached by this tick
+        entityManager.captureRenderPositions();
 
-        if (stillActive) {
+        // Spawns and despawns made during the tick are committed together at its end
+        entityManager.beginFrame();
+        try {
             // Update power-ups
-            powerUpManager.update(delta);
+            powerUpManager.update(step);
 
             // Update player movement
-            updatePlayers(delta);
+            updatePlayers(step);
 
             // Update entities
-            entityManager.updateEntities(delta);
+            entityManager.updateEntities(step);
 
             // Collision Detection
             if (!entityManager.getEntities().isEmpty()) {
                 collisionManager.detectCollisions();
             }
-
-            // Handle escape key
-            if (inputManager.isActionPressed(Input.Keys.ESCAPE)) {
-                gameStateManager.pauseGame();
-                return false; // Signal to open pause menu
-            }
-        } else {
-            // Game is no longer active (game over)
-            return false;
+        } finally {
+            entityManager.endFrame();
         }
-
         return true;
     }
 
+    /**
+     * Gets the fixed simulation step
+     * 
+     * @return Length of one tick in seconds
+     */
+    public static float getTickLength() {
+        return TICK;
+    }
+
+    /**
+     * Gets how far the leftover frame time reaches into the next tick
+     * 
+     * @return Blend factor between the last two ticks, from 0 to 1
+     */
+    public float getInterpolationAlpha() {
+        return accumulator / TICK;
+    }
+
     /**
      * Updates all player entities
      * 
      * @param delta The time elapsed since the last update
      */
     private void updatePlayers(float delta) {
-        for (Entity entity : entityManager.getEntities()) {
-            if (entity instanceof Player) {
-                ((Player) entity).moveUserControlled(delta);
-            }
+        List<Player> players = entityManager.getEntitiesOfType(Player.class);
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.moveUserControlled(delta);
         }
     }
 
@@ -107,6 +157,7 @@ public class GameLoopHandler {
     public void initializeGame() {
         // Reset game state
         gameActive = true;
+        accumulator = 0;
 
         // Completely clear all entities before spawning new ones
         for (Entity entity : new ArrayList<>(entityManager.getEntities())) {
@@ -115,7 +166,7 @@ public class GameLoopHandler {
 
         // Spawn entities
         entityManager.spawnPlayers(1, inputManager);
-        entityManager.spawnSpikes(4);
+        entityManager.spawnSpikes(entityManager.getTuning().getSpikesPerWave());
         entityManager.spawnBalloonsRow();
     }
 
@@ -139,7 +190,7 @@ public class GameLoopHandler {
         // Initialize a new game
         initializeGame();
 
-        System.out.println("Game restarted!");
+        GameLog.info("Game restarted!");
     }
 
     /**
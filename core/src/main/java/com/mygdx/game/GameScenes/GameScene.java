@@ -10,8 +10,11 @@ import com.mygdx.game.AbstractIO.iInputManager;
 import com.mygdx.game.AbstractIO.iOutputManager;
 import com.mygdx.game.AbstractScene.iSceneManager;
 import com.mygdx.game.GameCollision.GameCollisionManager;
+import com.mygdx.game.GameEntity.BalloonLabelCache;
+import com.mygdx.game.GameEntity.EntityAssets;
 import com.mygdx.game.GameEntity.EntityScoreAdapter;
 import com.mygdx.game.GameEntity.GameEntityManager;
+import com.mygdx.game.GameEntity.PowerUpSprites;
 import com.mygdx.game.GamePowerups.GameStateAdapter;
 import com.mygdx.game.GamePowerups.PowerUpManager;
 import com.mygdx.game.GameState.GameStateManager;
@@ -67,6 +70,9 @@ public class GameScene extends Scene {
         audio.setSoundEffectVolume("powerup", 0.3f);
         audio.setSoundEffectVolume("debuff", 0.3f);
 
+        // Bake the power-up stars so they draw inside the sprite batch
+        PowerUpSprites.getInstance().load();
+
         // Initialize managers and components
         initializeComponents();
     }
@@ -188,13 +194,16 @@ public class GameScene extends Scene {
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0.2f, 1);
 
+        // Bake balloon labels first seen last frame; this binds a frame buffer, so it runs before the batch
+        BalloonLabelCache.getInstance().bakePending();
+
         // Draw background
         batch.begin();
         batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
         // Render entities if game is active - ONLY HERE, nowhere else
         if (gameLoop.isGameActive()) {
-            entityManager.renderEntities(batch);
+            entityManager.renderEntities(batch, gameLoop.getInterpolationAlpha());
         }
 
         batch.end();
@@ -322,5 +331,8 @@ public class GameScene extends Scene {
             entityManager.dispose();
         if (collisionManager != null)
             collisionManager.dispose();
+
+        // Entity textures and fonts live as long as the scene that used them
+        EntityAssets.unload();
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.mygdx.game.GameScenes;
 
 import com.mygdx.game.AbstractIO.iInputManager;
 import com.mygdx.game.GameEntity.GameEntityManager;
-import com.mygdx.game.GameEntity.PowerUpEffect;
 import com.mygdx.game.GamePowerups.PowerUpType;
 import com.mygdx.game.GameState.GameStateManager;
 import com.mygdx.game.GameUI.GameUIManager;
@@ -43,32 +42,27 @@ public class SceneContextAdapter implements iSceneContext {
     
     @Override
     public void createPowerUpEffect(PowerUpType powerUpType, float x, float y) {
-        PowerUpEffect effect = null;
-
+        // Effects are drawn from the entity manager's pool
         switch (powerUpType) {
             case DOUBLE_POINTS:
-                effect = PowerUpEffect.createDoublePointsEffect(x, y);
+                entityManager.spawnPowerUpEffect(x, y, "DOUBLE POINTS!", Color.GOLD, 2.0f);
                 break;
             case EXTEND_TIME:
-                effect = PowerUpEffect.createTimeExtensionEffect(x, y);
+                entityManager.spawnPowerUpEffect(x, y, "+5 SECONDS!", Color.CYAN, 2.0f);
                 break;
             case REDUCE_TIME:
-                effect = PowerUpEffect.createEffect(x, y, "-3 SECONDS!", 
+                entityManager.spawnPowerUpEffect(x, y, "-3 SECONDS!", 
                         Color.RED, 2.0f);
                 break;
             case INVERT_CONTROLS:
-                effect = PowerUpEffect.createEffect(x, y, "CONTROLS INVERTED!", 
+                entityManager.spawnPowerUpEffect(x, y, "CONTROLS INVERTED!", 
                         Color.PURPLE, 2.0f);
                 break;
             case SLOW_PLAYER:
-                effect = PowerUpEffect.createEffect(x, y, "SPEED REDUCED!", 
+                entityManager.spawnPowerUpEffect(x, y, "SPEED REDUCED!", 
                         Color.ORANGE, 2.0f);
                 break;
         }
-
-        if (effect != null) {
-            entityManager.addEntity(effect);
-        }
     }
     
     @Override
@@ -0,0 +1,107 @@
+package com.mygdx.game.GameSimulation;
+
+import com.mygdx.game.GamePowerups.PowerUpType;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.Histogram;
+
+/**
+ * Aggregated results of many sessions run with one tuning.
+ * Each worker fills its own instance; merge() combines them.
+ */
+public class BatchStats {
+    private final GameTuning tuning;
+    private final Histogram scores;
+    private final Histogram durations = new Histogram(0, 125, 25); // Sessions are cut off at 120 seconds
+    // Counts are whole numbers, so they get one bin per value and exact percentiles
+    private final Histogram spikesHits = Histogram.ofIntegers(0, 50);
+    private final Histogram balloonsCollected = Histogram.ofIntegers(0, 40);
+    private final Histogram balloonsLost = Histogram.ofIntegers(0, 60);
+    private final long[] powerUpsCollected = new long[PowerUpType.values().length]; // Totals by type ordinal
+
+    public BatchStats(GameTuning tuning) {
+        this.tuning = tuning;
+        this.scores = Histogram.ofIntegers(0, expectedTopScore(tuning));
+    }
+
+    // Score of a base-length session that collects the top value from every row with double points.
+    // Sessions extended by power-ups can pass it; the score bins then grow.
+    private static int expectedTopScore(GameTuning tuning) {
+        int rows = (int) Math.ceil(tuning.getGameDuration() / tuning.getSpikesSpawnInterval()) + 1;
+        int valueMax = tuning.getBalloonValueMax();
+        int topValue = tuning.isHardMode() ? valueMax * valueMax : valueMax;
+        return rows * topValue * 2;
+    }
+
+    public void add(SessionResult result) {
+        scores.add(result.getScore());
+        durations.add(result.getDuration());
+        spikesHits.add(result.getPlayerSpikesHits());
+        balloonsCollected.add(result.getBalloonsCollected());
+        balloonsLost.add(result.getBalloonsLostToSpikes());
+        for (PowerUpType type : PowerUpType.values()) {
+            powerUpsCollected[type.ordinal()] += result.getPowerUpsCollected(type);
+        }
+    }
+
+    public void merge(BatchStats other) {
+        scores.merge(other.scores);
+        durations.merge(other.durations);
+        spikesHits.merge(other.spikesHits);
+        balloonsCollected.merge(other.balloonsCollected);
+        balloonsLost.merge(other.balloonsLost);
+        for (int i = 0; i < powerUpsCollected.length; i++) {
+            powerUpsCollected[i] += other.powerUpsCollected[i];
+        }
+    }
+
+    public GameTuning getTuning() {
+        return tuning;
+    }
+
+    public long getSessions() {
+        return scores.getCount();
+    }
+
+    public Histogram getScores() {
+        return scores;
+    }
+
+    public Histogram getDurations() {
+        return durations;
+    }
+
+    public Histogram getSpikesHits() {
+        return spikesHits;
+    }
+
+    public Histogram getBalloonsCollected() {
+        return balloonsCollected;
+    }
+
+    public Histogram getBalloonsLost() {
+        return balloonsLost;
+    }
+
+    // Average number of power-ups of a type collected per session
+    public double getPowerUpsPerSession(PowerUpType type) {
+        long sessions = getSessions();
+        return sessions == 0 ? 0 : powerUpsCollected[type.ordinal()] / (double) sessions;
+    }
+
+    // Multi-line report with summaries and the score histogram
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        out.append(tuning).append('\n');
+        out.append("  score      ").append(scores).append('\n');
+        out.append("  duration   ").append(durations).append('\n');
+        out.append("  spikes hit ").append(spikesHits).append('\n');
+        out.append("  collected  ").append(balloonsCollected).append('\n');
+        out.append("  lost       ").append(balloonsLost).append('\n');
+        out.append("  power-ups /session:");
+        for (PowerUpType type : PowerUpType.values()) {
+            out.append(String.format(" %s=%.2f", type.getSymbol(), getPowerUpsPerSession(type)));
+        }
+        out.append('\n').append(scores.render());
+        return out.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.mygdx.game.GameSimulation;
+
+import java.util.List;
+
+import com.mygdx.game.GameEntity.Balloon;
+import com.mygdx.game.GameEntity.GameEntityManager;
+import com.mygdx.game.GameEntity.Player;
+import com.mygdx.game.GameIO.HeadlessInputManager;
+
+/**
+ * Heuristic player that heads for the lowest balloon, the one closest to
+ * escaping. Spikes are left to the movement sweep, which makes the player
+ * slide along them. It sees inverted controls and compensates for them.
+ */
+public class ChasingPlayer implements iSimulatedPlayer {
+    private static final float STEER_DISTANCE = 20f; // Offset at which input reaches full strength
+
+    @Override
+    public void steer(HeadlessSimulation simulation, HeadlessInputManager input) {
+        GameEntityManager entityManager = simulation.getEntityManager();
+        Player player = entityManager.getFirstOfType(Player.class);
+        if (player == null) {
+            input.setMove(0, 0);
+            return;
+        }
+
+        Balloon target = null;
+        List<Balloon> balloons = entityManager.getEntitiesOfType(Balloon.class);
+        for (int i = 0; i < balloons.size(); i++) {
+            Balloon balloon = balloons.get(i);
+            if (balloon.isActive() && (target == null || balloon.getY() < target.getY())) {
+                target = balloon;
+            }
+        }
+        if (target == null) {
+            input.setMove(0, 0);
+            return;
+        }
+
+        // Aim the player's centre at the balloon's centre
+        float dx = (target.getX() + target.getWidth() / 2) - (player.getX() + player.getWidth() / 2);
+        float dy = target.getY() - (player.getY() + player.getHeight());
+        float moveX = dx / STEER_DISTANCE;
+        float moveY = dy / STEER_DISTANCE;
+        if (player.areControlsInverted()) {
+            moveX = -moveX;
+            moveY = -moveY;
+        }
+        input.setMove(moveX, moveY);
+    }
+}
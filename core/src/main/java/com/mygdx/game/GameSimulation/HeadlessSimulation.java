@@ -0,0 +1,228 @@
+package com.mygdx.game.GameSimulation;
+
+import com.mygdx.game.AbstractCollision.SpatialHashGrid;
+import com.mygdx.game.AbstractIO.AudioHandler;
+import com.mygdx.game.AbstractIO.SilentAudio;
+import com.mygdx.game.AbstractIO.iInputManager;
+import com.mygdx.game.GameCollision.GameCollisionManager;
+import com.mygdx.game.GameEntity.EntityScoreAdapter;
+import com.mygdx.game.GameEntity.GameEntityManager;
+import com.mygdx.game.GameIO.HeadlessInputManager;
+import com.mygdx.game.GamePowerups.PowerUpManager;
+import com.mygdx.game.GamePowerups.PowerUpType;
+import com.mygdx.game.GameScenes.GameLoopHandler;
+import com.mygdx.game.GameScenes.iSceneContext;
+import com.mygdx.game.GameState.GameStateManager;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.GameState.iGameStateListener;
+import com.mygdx.game.util.GameRandom;
+import com.mygdx.game.util.GameWorld;
+
+/**
+ * Runs the game logic without a window, GL context or audio device.
+ * Wires the same managers as GameScene, but with a virtual world size, silent
+ * audio, scripted input and no UI, and steps the fixed-tick loop as fast as
+ * the CPU allows. Used for balancing and regression runs.
+ */
+public class HeadlessSimulation implements iSceneContext, iGameStateListener {
+    // Same size as the desktop window, so results match real play
+    public static final float DEFAULT_WORLD_WIDTH = 800f;
+    public static final float DEFAULT_WORLD_HEIGHT = 600f;
+    private static final float GRID_CELL_SIZE = 64f;
+
+    private final HeadlessInputManager inputManager = new HeadlessInputManager();
+    private final GameRandom random; // All gameplay randomness of this simulation
+    private final GameTuning tuning; // Balance values shared by every manager
+    private final GameEntityManager entityManager;
+    private final GameStateManager gameStateManager;
+    private final PowerUpManager powerUpManager;
+    private final GameCollisionManager collisionManager;
+    private final GameLoopHandler gameLoop;
+
+    private iSimulatedPlayer player; // Steers the player each tick, or null to stand still
+    private boolean gameOver = false;
+    private int ticks = 0; // Ticks run in the current session
+
+    public HeadlessSimulation() {
+        this(new GameRandom(), new GameTuning());
+    }
+
+    /**
+     * Creates a simulation with its own set of managers.
+     * Headless mode is process-wide, so switch it on once with
+     * GameWorld.enableHeadless before creating any simulation; simulations
+     * built on worker threads only read it.
+     *
+     * @param random Generator for all gameplay randomness; reseed it to replay a session
+     * @param tuning Balance values for every session
+     */
+    public HeadlessSimulation(GameRandom random, GameTuning tuning) {
+        if (!GameWorld.isHeadless()) {
+            throw new IllegalStateException("Call GameWorld.enableHeadless before creating a HeadlessSimulation");
+        }
+
+        this.random = random;
+        this.tuning = tuning;
+        AudioHandler audio = new SilentAudio();
+        entityManager = new GameEntityManager(random, tuning);
+        gameStateManager = new GameStateManager(this, audio, tuning);
+        gameStateManager.setRecordScores(false); // Keep simulated games out of the high scores
+        powerUpManager = new PowerUpManager(this, gameStateManager, tuning);
+        EntityScoreAdapter scoreAdapter = new EntityScoreAdapter(gameStateManager, powerUpManager);
+        collisionManager = new GameCollisionManager(entityManager, scoreAdapter,
+                new SpatialHashGrid(GRID_CELL_SIZE), audio);
+        gameLoop = new GameLoopHandler(
+                entityManager,
+                collisionManager,
+                gameStateManager,
+                powerUpManager,
+                inputManager);
+    }
+
+    /**
+     * Starts a new session from a clean state
+     */
+    public void startSession() {
+        gameOver = false;
+        ticks = 0;
+        inputManager.dispose(); // Release any held input
+        collisionManager.getStats().reset();
+        gameLoop.restartGame();
+    }
+
+    /**
+     * Advances the session by one fixed tick
+     *
+     * @return true if the session is still running
+     */
+    public boolean step() {
+        if (gameOver) {
+            return false;
+        }
+        if (player != null) {
+            player.steer(this, inputManager);
+        }
+        ticks++;
+        if (!gameLoop.update(GameLoopHandler.getTickLength())) {
+            gameOver = true;
+        }
+        return !gameOver;
+    }
+
+    /**
+     * Starts a new session that replays exactly for the same seed
+     *
+     * @param seed Master seed for every random stream
+     */
+    public void startSession(long seed) {
+        random.setSeed(seed);
+        startSession();
+    }
+
+    /**
+     * Plays a whole session with the current simulated player
+     *
+     * @param seed       Master seed for the session
+     * @param maxSeconds Simulated time after which the session is cut off
+     * @return Score and contact counts of the session
+     */
+    public SessionResult runSession(long seed, float maxSeconds) {
+        startSession(seed);
+        int maxTicks = (int) (maxSeconds / GameLoopHandler.getTickLength());
+        while (ticks < maxTicks && step()) {
+            // Keep stepping until the game ends or the cap is reached
+        }
+        return new SessionResult(seed, gameStateManager.getPlayerScore(), getSimulatedTime(),
+                collisionManager.getStats());
+    }
+
+    // Sets who steers the player; null leaves the player standing still
+    public void setPlayer(iSimulatedPlayer player) {
+        this.player = player;
+    }
+
+    // Gets the scripted input that steers the player
+    public HeadlessInputManager getInput() {
+        return inputManager;
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public GameTuning getTuning() {
+        return tuning;
+    }
+
+    public GameStateManager getGameStateManager() {
+        return gameStateManager;
+    }
+
+    public PowerUpManager getPowerUpManager() {
+        return powerUpManager;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // Gets the simulated time of the current session in seconds
+    public float getSimulatedTime() {
+        return ticks * GameLoopHandler.getTickLength();
+    }
+
+    public void dispose() {
+        entityManager.dispose();
+        collisionManager.dispose();
+        inputManager.dispose();
+    }
+
+    // iSceneContext
+
+    @Override
+    public GameEntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    @Override
+    public void createPowerUpEffect(PowerUpType powerUpType, float x, float y) {
+        // Effects are only visual
+    }
+
+    @Override
+    public void createPowerUpEffect(int powerUpTypeId, float x, float y) {
+        // Effects are only visual
+    }
+
+    @Override
+    public void updatePowerUpLabel(String text) {
+        // No UI
+    }
+
+    @Override
+    public iInputManager getInputManager() {
+        return inputManager;
+    }
+
+    // iGameStateListener
+
+    @Override
+    public void onScoreChanged(int newScore) {
+        // No UI
+    }
+
+    @Override
+    public void onTimerUpdated(float remainingTime) {
+        // No UI
+    }
+
+    @Override
+    public void onGameOver(int finalScore, boolean isNewHighScore) {
+        gameOver = true;
+    }
+
+    @Override
+    public void showGameOver(int finalScore, boolean isNewHighScore) {
+        // No UI
+    }
+}
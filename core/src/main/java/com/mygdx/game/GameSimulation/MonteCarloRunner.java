@@ -0,0 +1,161 @@
+package com.mygdx.game.GameSimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import com.mygdx.game.GameState.GameSettings;
+import com.mygdx.game.GameState.GameTuning;
+import com.mygdx.game.util.GameLog;
+import com.mygdx.game.util.GameRandom;
+import com.mygdx.game.util.GameWorld;
+
+/**
+ * Runs many independent headless sessions in parallel and aggregates their
+ * results, for comparing tunings without manual play.
+ * Sessions are split across a ForkJoinPool in chunks; each chunk owns one
+ * HeadlessSimulation, since the managers are not thread-safe. Session i of a
+ * batch always uses the same seed, so a batch gives the same totals no matter
+ * how many threads ran it.
+ */
+public class MonteCarloRunner {
+    private static final int SESSIONS_PER_TASK = 32; // Chunk size below which a task runs its sessions itself
+    private static final float MAX_SESSION_SECONDS = 120f; // Cut-off for sessions extended by power-ups
+
+    private final ForkJoinPool pool;
+    private final Supplier<iSimulatedPlayer> players; // Creates one player per task
+    private final boolean wasHeadless; // Process-wide settings to restore on shutdown
+    private final boolean wasLogging;
+
+    /**
+     * Creates a runner using every core
+     *
+     * @param players Creates the simulated player for each task
+     */
+    public MonteCarloRunner(Supplier<iSimulatedPlayer> players) {
+        this(new ForkJoinPool(Runtime.getRuntime().availableProcessors()), players);
+    }
+
+    public MonteCarloRunner(ForkJoinPool pool, Supplier<iSimulatedPlayer> players) {
+        this.pool = pool;
+        this.players = players;
+        this.wasHeadless = GameWorld.isHeadless();
+        this.wasLogging = GameLog.isEnabled();
+        // Set once before any worker starts, since balloon sizes derive from the world width when the class loads
+        GameWorld.enableHeadless(HeadlessSimulation.DEFAULT_WORLD_WIDTH, HeadlessSimulation.DEFAULT_WORLD_HEIGHT);
+        // Per-event messages from thousands of sessions would only queue the workers on System.out
+        GameLog.setEnabled(false);
+    }
+
+    /**
+     * Runs a batch of sessions with one tuning
+     *
+     * @param tuning     Balance values to test
+     * @param sessions   Number of sessions
+     * @param masterSeed Seed from which every session seed is derived
+     * @return Aggregated results
+     */
+    public BatchStats run(GameTuning tuning, int sessions, long masterSeed) {
+        return pool.invoke(new SessionBatch(tuning, masterSeed, 0, sessions));
+    }
+
+    /**
+     * Runs the same batch for every tuning in a grid.
+     * All tunings share the master seed, so they face the same session seeds.
+     */
+    public List<BatchStats> sweep(List<GameTuning> grid, int sessionsPerTuning, long masterSeed) {
+        List<BatchStats> results = new ArrayList<>();
+        for (GameTuning tuning : grid) {
+            results.add(run(tuning, sessionsPerTuning, masterSeed));
+        }
+        return results;
+    }
+
+    // Stops the workers and restores the headless and logging settings found at construction
+    public void shutdown() {
+        pool.shutdown();
+        if (!wasHeadless) {
+            GameWorld.disableHeadless();
+        }
+        GameLog.setEnabled(wasLogging);
+    }
+
+    // Sessions [from, to) of a batch, split in half until small enough to run
+    private class SessionBatch extends RecursiveTask<BatchStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameTuning tuning;
+        private final long masterSeed;
+        private final int from, to;
+
+        SessionBatch(GameTuning tuning, long masterSeed, int from, int to) {
+            this.tuning = tuning;
+            this.masterSeed = masterSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchStats compute() {
+            if (to - from > SESSIONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                SessionBatch second = new SessionBatch(tuning, masterSeed, middle, to);
+                second.fork();
+                BatchStats stats = new SessionBatch(tuning, masterSeed, from, middle).compute();
+                stats.merge(second.join());
+                return stats;
+            }
+
+            BatchStats stats = new BatchStats(tuning);
+            HeadlessSimulation simulation = new HeadlessSimulation(new GameRandom(masterSeed), tuning);
+            simulation.setPlayer(players.get());
+            try {
+                for (int i = from; i < to; i++) {
+                    stats.add(simulation.runSession(GameRandom.seedFor(masterSeed, i), MAX_SESSION_SECONDS));
+                }
+            } finally {
+                simulation.dispose();
+            }
+            return stats;
+        }
+    }
+
+    /**
+     * Sweeps spikes interval, power-up chance and difficulty and prints a
+     * report per tuning
+     *
+     * @param args Optional sessions per tuning (default 2000) and master seed
+     */
+    public static void main(String[] args) {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+
+        List<GameTuning> grid = new ArrayList<>();
+        for (int difficulty : new int[] { GameSettings.DIFFICULTY_EASY, GameSettings.DIFFICULTY_HARD }) {
+            for (float spikesInterval : new float[] { 3f, 5f, 7f }) {
+                for (float powerUpChance : new float[] { 0.5f, 0.9f }) {
+                    GameTuning tuning = new GameTuning();
+                    tuning.setDifficulty(difficulty);
+                    tuning.setSpikesSpawnInterval(spikesInterval);
+                    tuning.setPowerUpSpawnChance(powerUpChance);
+                    grid.add(tuning);
+                }
+            }
+        }
+
+        MonteCarloRunner runner = new MonteCarloRunner(ChasingPlayer::new);
+        long start = System.nanoTime();
+        List<BatchStats> results = runner.sweep(grid, sessions, seed);
+        float seconds = (System.nanoTime() - start) / 1e9f;
+        runner.shutdown();
+
+        for (BatchStats stats : results) {
+            System.out.println(stats.report());
+        }
+        System.out.println("Master seed: " + seed);
+        System.out.println("Ran " + grid.size() * sessions + " sessions in " + seconds + "s ("
+                + (int) (grid.size() * sessions / seconds * 60) + " per minute)");
+    }
+}
@@ -0,0 +1,58 @@
+package com.mygdx.game.GameSimulation;
+
+import com.mygdx.game.GameCollision.CollisionStats;
+import com.mygdx.game.GamePowerups.PowerUpType;
+
+/**
+ * Outcome of one simulated session
+ */
+public class SessionResult {
+    private final long seed;
+    private final int score;
+    private final float duration; // Simulated seconds until the game ended or was cut off
+    private final int playerSpikesHits;
+    private final int balloonsCollected;
+    private final int balloonsLostToSpikes;
+    private final int[] powerUpsCollected = new int[PowerUpType.values().length]; // By type ordinal
+
+    public SessionResult(long seed, int score, float duration, CollisionStats stats) {
+        this.seed = seed;
+        this.score = score;
+        this.duration = duration;
+        this.playerSpikesHits = stats.getPlayerSpikesHits();
+        this.balloonsCollected = stats.getBalloonsCollected();
+        this.balloonsLostToSpikes = stats.getBalloonsLostToSpikes();
+        for (PowerUpType type : PowerUpType.values()) {
+            powerUpsCollected[type.ordinal()] = stats.getPowerUpsCollected(type);
+        }
+    }
+
+    // Seed that replays this session exactly
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+
+    public int getPlayerSpikesHits() {
+        return playerSpikesHits;
+    }
+
+    public int getBalloonsCollected() {
+        return balloonsCollected;
+    }
+
+    public int getBalloonsLostToSpikes() {
+        return balloonsLostToSpikes;
+    }
+
+    public int getPowerUpsCollected(PowerUpType type) {
+        return powerUpsCollected[type.ordinal()];
+    }
+}
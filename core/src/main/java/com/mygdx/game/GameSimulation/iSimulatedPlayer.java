@@ -0,0 +1,16 @@
+package com.mygdx.game.GameSimulation;
+
+import com.mygdx.game.GameIO.HeadlessInputManager;
+
+/**
+ * Scripted or heuristic stand-in for a human player in headless sessions
+ */
+public interface iSimulatedPlayer {
+    /**
+     * Chooses the input for the next tick
+     *
+     * @param simulation The running session, for reading entity positions
+     * @param input      The input the player entity reads
+     */
+    void steer(HeadlessSimulation simulation, HeadlessInputManager input);
+}
@@ -1,23 +1,25 @@
 package com.mygdx.game.GameState;
 
-import com.mygdx.game.AbstractIO.Audio;
+import com.mygdx.game.AbstractIO.AudioHandler;
+import com.mygdx.game.util.GameLog;
 
 /**
  * Manages the game state, including score, timer, and game lifecycle.
  * Decoupled from GameScene through the GameStateListener interface.
  */
 public class GameStateManager {
-    // Game state constants
-    private static final float GAME_DURATION = 20f; // Default game duration in seconds
-
     // Game state variables
     private boolean gameActive = true;
     private int playerScore = 0;
     private float gameTimer = 0;
     private boolean scoreSaved = false;
+    private boolean recordScores = true; // Whether finished games go into the high scores
 
     // Reference to audio system
-    private Audio audio;
+    private AudioHandler audio;
+
+    // Session length and other balance values
+    private final GameTuning tuning;
     
     // Reference to game state listener (instead of direct GameScene reference)
     private iGameStateListener gameStateListener;
@@ -28,9 +30,21 @@ public class GameStateManager {
      * @param gameStateListener The listener that will respond to state changes
      * @param audio Audio system for sound effects
      */
-    public GameStateManager(iGameStateListener gameStateListener, Audio audio) {
+    public GameStateManager(iGameStateListener gameStateListener, AudioHandler audio) {
+        this(gameStateListener, audio, new GameTuning());
+    }
+
+    /**
+     * Creates a new GameStateManager with custom balance values
+     * 
+     * @param gameStateListener The listener that will respond to state changes
+     * @param audio Audio system for sound effects
+     * @param tuning Balance values, including the session length
+     */
+    public GameStateManager(iGameStateListener gameStateListener, AudioHandler audio, GameTuning tuning) {
         this.gameStateListener = gameStateListener;
         this.audio = audio;
+        this.tuning = tuning;
     }
     
     /**
@@ -43,6 +57,16 @@ public class GameStateManager {
         this.gameStateListener = listener;
     }
 
+    /**
+     * Sets whether finished games are added to the high scores.
+     * Simulated sessions turn this off so they do not fill the real table.
+     * 
+     * @param recordScores Whether to record scores
+     */
+    public void setRecordScores(boolean recordScores) {
+        this.recordScores = recordScores;
+    }
+
     /**
      * Updates the game state
      * 
@@ -56,7 +80,7 @@ public class GameStateManager {
 
         // Update game timer
         gameTimer += deltaTime;
-        float timeRemaining = GAME_DURATION - gameTimer;
+        float timeRemaining = tuning.getGameDuration() - gameTimer;
 
         // Notify listener about timer update
         if (gameStateListener != null) {
@@ -90,7 +114,7 @@ public class GameStateManager {
 
         // Log double points bonus if applicable
         if (isDoublePoints) {
-            System.out.println("Double points bonus! Added " + actualPoints + " points!");
+            GameLog.info("Double points bonus! Added " + actualPoints + " points!");
         }
     }
 
@@ -101,11 +125,11 @@ public class GameStateManager {
      */
     public void extendGameTime(float seconds) {
         gameTimer = Math.max(0, gameTimer - seconds);
-        System.out.println("Game time extended by " + seconds + " seconds!");
+        GameLog.info("Game time extended by " + seconds + " seconds!");
         
         // Notify listener about timer update
         if (gameStateListener != null) {
-            gameStateListener.onTimerUpdated(GAME_DURATION - gameTimer);
+            gameStateListener.onTimerUpdated(tuning.getGameDuration() - gameTimer);
         }
     }
 
@@ -115,12 +139,12 @@ public class GameStateManager {
      * @param seconds Seconds to subtract from remaining time
      */
     public void reduceGameTime(float seconds) {
-        gameTimer = Math.min(GAME_DURATION - 1, gameTimer + seconds);
-        System.out.println("Game time reduced by " + seconds + " seconds!");
+        gameTimer = Math.min(tuning.getGameDuration() - 1, gameTimer + seconds);
+        GameLog.info("Game time reduced by " + seconds + " seconds!");
         
         // Notify listener about timer update
         if (gameStateListener != null) {
-            gameStateListener.onTimerUpdated(GAME_DURATION - gameTimer);
+            gameStateListener.onTimerUpdated(tuning.getGameDuration() - gameTimer);
         }
     }
 
@@ -137,13 +161,12 @@ public class GameStateManager {
 
         // Only save score once
         if (!scoreSaved) {
-            HighScoresManager highScoresManager = HighScoresManager.getInstance();
-            boolean isNewBestScore = highScoresManager.addScore(playerScore);
+            boolean isNewBestScore = recordScores && HighScoresManager.getInstance().addScore(playerScore);
 
             // Log game results
-            System.out.println("Game ended with score: " + playerScore);
-            System.out.println("Game difficulty: " + GameSettings.getDifficultyName());
-            System.out.println("Is new best score: " + isNewBestScore);
+            GameLog.info("Game ended with score: " + playerScore);
+            GameLog.info("Game difficulty: " + tuning.getDifficultyName());
+            GameLog.info("Is new best score: " + isNewBestScore);
 
             // Notify listener about game over
             if (gameStateListener != null) {
@@ -164,10 +187,10 @@ public class GameStateManager {
         // Notify listener about state reset
         if (gameStateListener != null) {
             gameStateListener.onScoreChanged(0);
-            gameStateListener.onTimerUpdated(GAME_DURATION);
+            gameStateListener.onTimerUpdated(tuning.getGameDuration());
         }
 
-        System.out.println("Game state reset for restart!");
+        GameLog.info("Game state reset for restart!");
     }
 
     /**
@@ -194,7 +217,7 @@ public class GameStateManager {
      * @return Seconds remaining in the game
      */
     public float getRemainingTime() {
-        return Math.max(0, GAME_DURATION - gameTimer);
+        return Math.max(0, tuning.getGameDuration() - gameTimer);
     }
 
     /**
@@ -229,7 +252,7 @@ public class GameStateManager {
         this.gameTimer = timer;
         // Notify listener about timer update
         if (gameStateListener != null) {
-            gameStateListener.onTimerUpdated(GAME_DURATION - timer);
+            gameStateListener.onTimerUpdated(tuning.getGameDuration() - timer);
         }
     }
 }
\ No newline at end of file
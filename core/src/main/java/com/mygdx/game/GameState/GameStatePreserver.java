@@ -13,6 +13,7 @@ import com.mygdx.game.GameEntity.Player;
 import com.mygdx.game.GameEntity.PowerUp;
 import com.mygdx.game.GameEntity.Spikes;
 import com.mygdx.game.GamePowerups.PowerUpManager;
+import com.mygdx.game.GamePowerups.PowerUpType;
 import com.mygdx.game.GameScenes.GameScene;
 
 /**
@@ -26,11 +27,13 @@ public class GameStatePreserver {
     private int playerScore = 0;
     private float gameTimer = 0;
     private boolean doublePointsActive = false; // Whether the double points power-up is active
-    private float doublePointsTimer = 0; // Timer for the double points power-up
+    private float doublePointsTimer = 0; // Seconds left on the double points power-up
     private boolean invertControlsActive = false; // Whether the invert controls power-up is active
-    private float invertControlsTimer = 0; // Timer for the invert controls power-up
+    private float invertControlsTimer = 0; // Seconds left on the invert controls power-up
     private boolean slowPlayerActive = false; // Whether the slow player power-up is active
-    private float slowPlayerTimer = 0; // Timer for the slow player power-up
+    private float slowPlayerTimer = 0; // Seconds left on the slow player power-up
+    private float spikesWaveTimer = 0; // Seconds until the next spikes wave
+    private float powerUpRollTimer = 0; // Seconds until the next power-up roll
     
     // New fields to store entity states
     private Map<Integer, EntityState> entityStates = new HashMap<>();
@@ -113,21 +116,25 @@ public class GameStatePreserver {
     public void preserveGameState(GameScene gameScene, GameStateManager stateManager, PowerUpManager powerUpManager) {
         this.playerScore = stateManager.getPlayerScore();
         this.gameTimer = stateManager.getGameTimer();
-        this.doublePointsActive = powerUpManager.isDoublePointsActive();
-        this.invertControlsActive = false; // Reset inverted controls on pause
-        this.slowPlayerActive = false; // Reset slow player on pause
+
+        // Timed effects and spawns carry on from where they were, not from a full interval
+        this.doublePointsTimer = powerUpManager.getEffectRemaining(PowerUpType.DOUBLE_POINTS);
+        this.doublePointsActive = doublePointsTimer > 0;
+        this.invertControlsTimer = powerUpManager.getEffectRemaining(PowerUpType.INVERT_CONTROLS);
+        this.invertControlsActive = invertControlsTimer > 0;
+        this.slowPlayerTimer = powerUpManager.getEffectRemaining(PowerUpType.SLOW_PLAYER);
+        this.slowPlayerActive = slowPlayerTimer > 0;
         
         // Save entity states
         entityStates.clear();
         GameEntityManager entityManager = gameScene.getEntityManager();
+        this.spikesWaveTimer = entityManager.getSpikesWaveRemaining();
+        this.powerUpRollTimer = entityManager.getPowerUpRollRemaining();
         
-        // Store current player speed if there is a player
-        for (Entity entity : entityManager.getEntities()) {
-            if (entity instanceof Player) {
-                Player player = (Player) entity;
-                playerSpeed = player.getSpeed();
-                break;
-            }
+        // Store the player's normal speed; an active slow-down is applied again on restore
+        Player player = entityManager.getFirstOfType(Player.class);
+        if (player != null) {
+            playerSpeed = slowPlayerActive ? powerUpManager.getOriginalPlayerSpeed() : player.getSpeed();
         }
         
         // Store all entity states
@@ -157,6 +164,8 @@ public class GameStatePreserver {
         invertControlsTimer = 0;
         slowPlayerActive = false;
         slowPlayerTimer = 0;
+        spikesWaveTimer = 0;
+        powerUpRollTimer = 0;
         entityStates.clear();
 
         System.out.println("Game state cleared");
@@ -172,9 +181,6 @@ public class GameStatePreserver {
         // Restore state to the managers
         stateManager.setPlayerScore(playerScore);
         stateManager.setGameTimer(gameTimer);
-        if (doublePointsActive) {
-            powerUpManager.activateDoublePoints();
-        }
         
         // First, clear all existing entities
         GameEntityManager entityManager = gameScene.getEntityManager();
@@ -193,6 +199,12 @@ public class GameStatePreserver {
             }
         }
 
+        // Resume the scheduled events with the time they had left; effects apply to the restored player
+        entityManager.resumeSpawnTimers(spikesWaveTimer, powerUpRollTimer);
+        powerUpManager.resumeEffect(PowerUpType.DOUBLE_POINTS, doublePointsTimer);
+        powerUpManager.resumeEffect(PowerUpType.INVERT_CONTROLS, invertControlsTimer);
+        powerUpManager.resumeEffect(PowerUpType.SLOW_PLAYER, slowPlayerTimer);
+
         System.out.println("Game state restored: Score=" + playerScore + ", Timer=" + gameTimer + 
                            ", Entity count=" + entityStates.size());
     }
@@ -230,9 +242,8 @@ public class GameStatePreserver {
                     
                     entity = balloon;
                 } else {
-                    // Fallback to default constructor if we don't have all the data
-                    Balloon balloon = new Balloon(state.x, state.y);
-                    entity = balloon;
+                    // Fallback to a fresh value from the session's generator if we don't have all the data
+                    entity = new Balloon().init(state.x, state.y, entityManager.getRandom(), entityManager.getTuning());
                 }
                 break;
                 
@@ -246,7 +257,7 @@ public class GameStatePreserver {
                 
             case "PowerUp":
                 // Based on position, recreate power-ups (simplified)
-                entity = PowerUp.createRandomPowerUp(state.x, state.y);
+                entity = new PowerUp(state.x, state.y, PowerUp.randomType(entityManager.getRandom()));
                 break;
                 
             case "PowerUpEffect":
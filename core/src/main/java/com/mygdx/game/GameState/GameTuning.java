@@ -0,0 +1,143 @@
+package com.mygdx.game.GameState;
+
+import com.mygdx.game.GamePowerups.PowerUpType;
+
+/**
+ * Balance values for one game: session length, spawn rates, power-up
+ * durations and balloon values. The defaults are the shipped game; batch
+ * simulations copy and change them to compare settings side by side.
+ */
+public class GameTuning {
+    public static final int FOLLOW_SETTINGS = -1; // Difficulty taken from GameSettings when a balloon spawns
+
+    private float gameDuration = 20f; // Session length in seconds
+    private float spikesSpawnInterval = 5f; // Seconds between spikes waves
+    private float spikesLifetime = 5f; // Seconds before spikes disappear
+    private int spikesPerWave = 4;
+    private float powerUpSpawnInterval = 3.5f; // Seconds between power-up spawn rolls
+    private float powerUpSpawnChance = 0.9f; // Chance that a roll spawns a power-up
+    private float powerUpDurationScale = 1f; // Multiplier on every timed power-up
+    private int balloonValueMax = 9; // Largest easy value and largest hard operand
+    private int difficulty = FOLLOW_SETTINGS;
+
+    // Creates the shipped tuning
+    public GameTuning() {
+    }
+
+    // Creates a copy that can be changed independently
+    public GameTuning(GameTuning other) {
+        this.gameDuration = other.gameDuration;
+        this.spikesSpawnInterval = other.spikesSpawnInterval;
+        this.spikesLifetime = other.spikesLifetime;
+        this.spikesPerWave = other.spikesPerWave;
+        this.powerUpSpawnInterval = other.powerUpSpawnInterval;
+        this.powerUpSpawnChance = other.powerUpSpawnChance;
+        this.powerUpDurationScale = other.powerUpDurationScale;
+        this.balloonValueMax = other.balloonValueMax;
+        this.difficulty = other.difficulty;
+    }
+
+    public float getGameDuration() {
+        return gameDuration;
+    }
+
+    public void setGameDuration(float gameDuration) {
+        this.gameDuration = gameDuration;
+    }
+
+    public float getSpikesSpawnInterval() {
+        return spikesSpawnInterval;
+    }
+
+    public void setSpikesSpawnInterval(float spikesSpawnInterval) {
+        this.spikesSpawnInterval = spikesSpawnInterval;
+    }
+
+    public float getSpikesLifetime() {
+        return spikesLifetime;
+    }
+
+    public void setSpikesLifetime(float spikesLifetime) {
+        this.spikesLifetime = spikesLifetime;
+    }
+
+    public int getSpikesPerWave() {
+        return spikesPerWave;
+    }
+
+    public void setSpikesPerWave(int spikesPerWave) {
+        this.spikesPerWave = spikesPerWave;
+    }
+
+    public float getPowerUpSpawnInterval() {
+        return powerUpSpawnInterval;
+    }
+
+    public void setPowerUpSpawnInterval(float powerUpSpawnInterval) {
+        this.powerUpSpawnInterval = powerUpSpawnInterval;
+    }
+
+    public float getPowerUpSpawnChance() {
+        return powerUpSpawnChance;
+    }
+
+    public void setPowerUpSpawnChance(float powerUpSpawnChance) {
+        this.powerUpSpawnChance = powerUpSpawnChance;
+    }
+
+    public float getPowerUpDurationScale() {
+        return powerUpDurationScale;
+    }
+
+    public void setPowerUpDurationScale(float powerUpDurationScale) {
+        this.powerUpDurationScale = powerUpDurationScale;
+    }
+
+    // Gets how long a timed power-up lasts under this tuning
+    public float getPowerUpDuration(PowerUpType type) {
+        return type.getDuration() * powerUpDurationScale;
+    }
+
+    public int getBalloonValueMax() {
+        return balloonValueMax;
+    }
+
+    public void setBalloonValueMax(int balloonValueMax) {
+        this.balloonValueMax = Math.max(1, balloonValueMax);
+    }
+
+    /**
+     * Fixes the difficulty instead of following GameSettings, so games with
+     * different difficulties can run side by side
+     *
+     * @param difficulty GameSettings.DIFFICULTY_EASY, DIFFICULTY_HARD or FOLLOW_SETTINGS
+     */
+    public void setDifficulty(int difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    // Checks whether balloons show math operations
+    public boolean isHardMode() {
+        if (difficulty == FOLLOW_SETTINGS) {
+            return GameSettings.isHardMode();
+        }
+        return difficulty == GameSettings.DIFFICULTY_HARD;
+    }
+
+    // Gets the name of the difficulty these values play at
+    public String getDifficultyName() {
+        return isHardMode() ? "Hard" : "Easy";
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s duration=%.1f spikes=%d/%.1fs life=%.1fs powerUp=%.0f%%/%.1fs x%.2f values<=%d",
+                isHardMode() ? "hard" : "easy", gameDuration, spikesPerWave, spikesSpawnInterval,
+                spikesLifetime, powerUpSpawnChance * 100, powerUpSpawnInterval, powerUpDurationScale,
+                balloonValueMax);
+    }
+}
@@ -12,7 +12,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.graphics.Texture;
+import com.mygdx.game.GameEntity.EntityAssets;
+import com.mygdx.game.util.AssetManager;
 
 /**
  * Manages all UI components for the game scene
@@ -57,7 +58,8 @@ public class GameUIManager {
      */
     private void initializeUI(Runnable onPauseAction, Runnable onRestartAction, Runnable onHomeAction) {
         // Set up pause button
-        pauseButton = new ImageButton(new TextureRegionDrawable(new Texture(Gdx.files.internal("pause.png"))));
+        pauseButton = new ImageButton(new TextureRegionDrawable(
+                AssetManager.getInstance().getSprite(EntityAssets.PAUSE_TEXTURE)));
         pauseButton.setPosition(Gdx.graphics.getWidth() - 60, Gdx.graphics.getHeight() - 60);
         pauseButton.setSize(50, 50);
 
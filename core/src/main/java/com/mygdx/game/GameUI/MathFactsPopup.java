@@ -12,11 +12,10 @@ import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.Gdx;
-
-import java.util.Random;
+import com.mygdx.game.util.GameRandom;
+import com.mygdx.game.util.RandomStream;
 
 public class MathFactsPopup extends Window {
-    private static final Random random = new Random(); // Random generator for selecting math facts
     private Label factLabel; // Label to display the math fact
     private Runnable onCloseAction; // Action to execute when the popup is closed
     private static int lastFactIndex = -1; // Keep track of the last shown fact
@@ -141,7 +140,7 @@ public class MathFactsPopup extends Window {
         // Generate a new random index that's different from the last one
         int newIndex;
         do {
-            newIndex = random.nextInt(MATH_FACTS.length);
+            newIndex = GameRandom.getInstance().nextInt(RandomStream.UI, MATH_FACTS.length);
         } while (newIndex == lastFactIndex && MATH_FACTS.length > 1);
 
         // Store this index as the last shown fact
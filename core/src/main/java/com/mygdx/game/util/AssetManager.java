@@ -3,26 +3,36 @@ package com.mygdx.game.util;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 /**
  * Singleton asset manager for efficient resource loading and disposal
  */
 public class AssetManager {
+    // Gameplay sprites packed by the packTextures Gradle task
+    public static final String SPRITE_ATLAS = "game.atlas";
+
     private static AssetManager instance;
     private final com.badlogic.gdx.assets.AssetManager manager;
     private final Map<String, Object> cachedAssets;
+    // Fonts built from libGDX's default font, which the loader does not manage
+    private final Map<String, BitmapFont> generatedFonts;
 
     private AssetManager() {
         manager = new com.badlogic.gdx.assets.AssetManager();
         cachedAssets = new HashMap<>();
+        generatedFonts = new HashMap<>();
     }
 
-    public static AssetManager getInstance() {
+    // Synchronized, since headless simulations create entities on several threads
+    public static synchronized AssetManager getInstance() {
         if (instance == null) {
             instance = new AssetManager();
         }
@@ -33,9 +43,12 @@ public class AssetManager {
      * Loads a texture, reusing cached instances if available
      * 
      * @param path The file path to the texture
-     * @return The loaded texture
+     * @return The loaded texture, or null in headless mode
      */
     public Texture getTexture(String path) {
+        if (GameWorld.isHeadless()) {
+            return null; // Nothing is drawn without a graphics context
+        }
         String key = "texture:" + path;
         if (cachedAssets.containsKey(key)) {
             return (Texture) cachedAssets.get(key);
@@ -51,6 +64,57 @@ public class AssetManager {
         return texture;
     }
 
+    /**
+     * Gets a sprite from the packed gameplay atlas, looked up by the name of
+     * its source image without the extension. Falls back to the loose image
+     * when the atlas has not been built or does not contain the sprite.
+     * 
+     * @param path The file path of the source image, e.g. "balloon.png"
+     * @return The sprite, or null in headless mode
+     */
+    public TextureRegion getSprite(String path) {
+        if (GameWorld.isHeadless()) {
+            return null; // Nothing is drawn without a graphics context
+        }
+        String key = "sprite:" + path;
+        if (cachedAssets.containsKey(key)) {
+            return (TextureRegion) cachedAssets.get(key);
+        }
+
+        TextureRegion sprite = null;
+        TextureAtlas atlas = getSpriteAtlas();
+        if (atlas != null) {
+            int extension = path.lastIndexOf('.');
+            sprite = atlas.findRegion(extension >= 0 ? path.substring(0, extension) : path);
+        }
+        if (sprite == null) {
+            sprite = new TextureRegion(getTexture(path));
+        }
+
+        cachedAssets.put(key, sprite);
+        return sprite;
+    }
+
+    // Loads the gameplay atlas, or returns null if it has not been packed
+    private TextureAtlas getSpriteAtlas() {
+        String key = "atlas:" + SPRITE_ATLAS;
+        if (cachedAssets.containsKey(key)) {
+            return (TextureAtlas) cachedAssets.get(key);
+        }
+        if (!Gdx.files.internal(SPRITE_ATLAS).exists()) {
+            return null;
+        }
+
+        if (!manager.isLoaded(SPRITE_ATLAS, TextureAtlas.class)) {
+            manager.load(SPRITE_ATLAS, TextureAtlas.class);
+            manager.finishLoadingAsset(SPRITE_ATLAS);
+        }
+
+        TextureAtlas atlas = manager.get(SPRITE_ATLAS, TextureAtlas.class);
+        cachedAssets.put(key, atlas);
+        return atlas;
+    }
+
     /**
      * Loads a sound effect, reusing cached instances if available
      * 
@@ -124,6 +188,9 @@ public class AssetManager {
      * @return The loaded font
      */
     public BitmapFont getFont(String path) {
+        if (GameWorld.isHeadless()) {
+            return null;
+        }
         String key = "font:" + path;
         if (cachedAssets.containsKey(key)) {
             return (BitmapFont) cachedAssets.get(key);
@@ -139,20 +206,56 @@ public class AssetManager {
         return font;
     }
 
+    /**
+     * Gets libGDX's built-in font at the given scale, creating it once and
+     * sharing it between all callers. Callers should set the colour they need
+     * before drawing, since the instance is shared.
+     * 
+     * @param scale The font scale
+     * @return The shared font
+     */
+    public BitmapFont getDefaultFont(float scale) {
+        if (GameWorld.isHeadless()) {
+            return null;
+        }
+        String path = defaultFontPath(scale);
+        BitmapFont font = generatedFonts.get(path);
+        if (font == null) {
+            font = new BitmapFont();
+            font.getData().setScale(scale);
+            generatedFonts.put(path, font);
+        }
+        return font;
+    }
+
+    /**
+     * Gets the path key used for a default font at the given scale,
+     * which can be passed to unloadAsset()
+     * 
+     * @param scale The font scale
+     * @return The path key for that font
+     */
+    public static String defaultFontPath(float scale) {
+        return "default@" + scale;
+    }
+
     /**
      * Unloads a specific asset
      * 
      * @param path The file path of the asset to unload
      */
     public void unloadAsset(String path) {
-        String[] prefixes = { "texture:", "sound:", "music:", "skin:", "font:" };
+        BitmapFont generatedFont = generatedFonts.remove(path);
+        if (generatedFont != null) {
+            generatedFont.dispose();
+            return;
+        }
+
+        String[] prefixes = { "texture:", "sprite:", "atlas:", "sound:", "music:", "skin:", "font:" };
 
+        // A loose image can be cached both as a texture and as the sprite that falls back to it
         for (String prefix : prefixes) {
-            String key = prefix + path;
-            if (cachedAssets.containsKey(key)) {
-                cachedAssets.remove(key);
-                break;
-            }
+            cachedAssets.remove(prefix + path);
         }
 
         if (manager.isLoaded(path)) {
@@ -189,5 +292,9 @@ public class AssetManager {
     public void dispose() {
         manager.dispose();
         cachedAssets.clear();
+        for (BitmapFont font : generatedFonts.values()) {
+            font.dispose();
+        }
+        generatedFonts.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.mygdx.game.util;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Runs actions at set points of game time.
+ * Events sit in a binary min-heap ordered by due time, then by scheduling
+ * order. Advancing the clock only looks at the events that are due, so
+ * nothing is polled per frame. Handles carry a generation number, so a
+ * handle to an event that has already fired or been cancelled is ignored
+ * even after its slot is reused.
+ */
+public class EventScheduler {
+    public static final long NONE = -1; // Handle that refers to no event
+
+    private float time; // Current game time in seconds
+    private long nextOrder; // Tie-break so events due together fire in scheduling order
+
+    // Event data by slot
+    private float[] dueTimes = new float[16];
+    private long[] orders = new long[16];
+    private Runnable[] actions = new Runnable[16];
+    private int[] generations = new int[16];
+    private int[] heapIndex = new int[16]; // Position of the slot in the heap, or -1
+    private int slotCount;
+    private final IntArray freeSlots = new IntArray();
+
+    private int[] heap = new int[16]; // Slots ordered as a binary min-heap
+    private int size;
+
+    /**
+     * Schedules an action after a delay
+     *
+     * @param delay  Seconds of game time from now
+     * @param action The action to run
+     * @return Handle for cancelling or querying the event
+     */
+    public long schedule(float delay, Runnable action) {
+        int slot = freeSlots.size > 0 ? freeSlots.pop() : newSlot();
+        dueTimes[slot] = time + Math.max(0, delay);
+        orders[slot] = nextOrder++;
+        actions[slot] = action;
+
+        if (size == heap.length) {
+            heap = copyOf(heap, size * 2);
+        }
+        heap[size] = slot;
+        heapIndex[slot] = size;
+        siftUp(size++);
+        return handleOf(slot);
+    }
+
+    /**
+     * Cancels an event if it has not fired yet
+     *
+     * @param handle Handle returned by schedule(), or NONE
+     * @return true if an event was cancelled
+     */
+    public boolean cancel(long handle) {
+        int slot = slotOf(handle);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(heapIndex[slot]);
+        release(slot);
+        return true;
+    }
+
+    // Checks whether the handle's event is still waiting to fire
+    public boolean isScheduled(long handle) {
+        return slotOf(handle) >= 0;
+    }
+
+    // Gets the seconds left before the handle's event fires, or 0 if it is not scheduled
+    public float getRemaining(long handle) {
+        int slot = slotOf(handle);
+        return slot < 0 ? 0 : Math.max(0, dueTimes[slot] - time);
+    }
+
+    /**
+     * Moves game time forward and runs every event that falls due, in order.
+     * Actions may schedule or cancel events; new events due within this step
+     * also run.
+     *
+     * @param deltaTime Seconds to advance
+     */
+    public void advance(float deltaTime) {
+        float target = time + deltaTime;
+        while (size > 0 && dueTimes[heap[0]] <= target) {
+            int slot = heap[0];
+            time = dueTimes[slot]; // Actions see the time they were due at
+            Runnable action = actions[slot];
+            removeAt(0);
+            release(slot);
+            action.run();
+        }
+        time = target;
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    // Number of events waiting to fire
+    public int size() {
+        return size;
+    }
+
+    // Drops every pending event and resets the clock to zero
+    public void clear() {
+        while (size > 0) {
+            int slot = heap[--size];
+            release(slot);
+        }
+        time = 0;
+    }
+
+    private int newSlot() {
+        if (slotCount == dueTimes.length) {
+            int capacity = slotCount * 2;
+            dueTimes = Arrays.copyOf(dueTimes, capacity);
+            orders = Arrays.copyOf(orders, capacity);
+            actions = Arrays.copyOf(actions, capacity);
+            generations = copyOf(generations, capacity);
+            heapIndex = copyOf(heapIndex, capacity);
+        }
+        return slotCount++;
+    }
+
+    // Returns a slot to the free list and invalidates its handles
+    private void release(int slot) {
+        actions[slot] = null;
+        heapIndex[slot] = -1;
+        generations[slot]++;
+        freeSlots.add(slot);
+    }
+
+    private long handleOf(int slot) {
+        return ((long) generations[slot] << 32) | slot;
+    }
+
+    // Gets the slot of a live handle, or -1 if the event fired, was cancelled or never existed
+    private int slotOf(long handle) {
+        if (handle < 0) {
+            return -1;
+        }
+        int slot = (int) handle;
+        if (slot >= slotCount || generations[slot] != (int) (handle >>> 32) || heapIndex[slot] < 0) {
+            return -1;
+        }
+        return slot;
+    }
+
+    private void removeAt(int index) {
+        int last = heap[--size];
+        if (index == size) {
+            return;
+        }
+        heap[index] = last;
+        heapIndex[last] = index;
+        siftDown(index);
+        siftUp(heapIndex[last]);
+    }
+
+    private boolean before(int slotA, int slotB) {
+        if (dueTimes[slotA] != dueTimes[slotB]) {
+            return dueTimes[slotA] < dueTimes[slotB];
+        }
+        return orders[slotA] < orders[slotB];
+    }
+
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(slot, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heapIndex[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    private void siftDown(int index) {
+        int slot = heap[index];
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], slot)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = slot;
+        heapIndex[slot] = index;
+    }
+
+    private static int[] copyOf(int[] source, int capacity) {
+        return Arrays.copyOf(source, capacity);
+    }
+}
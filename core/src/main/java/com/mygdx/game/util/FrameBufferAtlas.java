@@ -0,0 +1,111 @@
+package com.mygdx.game.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Texture atlas whose regions are drawn at runtime into a FrameBuffer, for
+ * graphics that are expensive to draw every frame but only come in a few
+ * variants. Regions are packed into shelves: left to right along a row, then
+ * a new row above once the current one is full.
+ * Drawing into the atlas binds its frame buffer, so begin() and end() must not
+ * be called while another batch is drawing.
+ */
+public class FrameBufferAtlas implements Disposable {
+    private static final int GAP = 1; // Empty pixels between regions so neighbours never bleed
+
+    private final int width, height;
+    private final FrameBuffer frameBuffer;
+    private final SpriteBatch batch; // Draws into the frame buffer in atlas pixels
+
+    // Shelf packing cursor
+    private int cursorX, cursorY;
+    private int shelfHeight;
+
+    /**
+     * Creates an empty atlas
+     *
+     * @param width  Atlas width in pixels
+     * @param height Atlas height in pixels
+     */
+    public FrameBufferAtlas(int width, int height) {
+        this.width = width;
+        this.height = height;
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+        batch = new SpriteBatch();
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        // Blend alpha additively so edge pixels keep their coverage over the transparent background
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        clear();
+    }
+
+    // Binds the frame buffer and starts the atlas batch before adding regions
+    public void begin() {
+        frameBuffer.begin();
+        batch.begin();
+    }
+
+    // Finishes drawing and restores the default frame buffer
+    public void end() {
+        batch.end();
+        frameBuffer.end();
+    }
+
+    /**
+     * Reserves a region and draws its contents; call between begin() and end()
+     *
+     * @param regionWidth  Width in pixels
+     * @param regionHeight Height in pixels
+     * @param painter      Draws the region's contents
+     * @return The region, or null if the atlas has no room left
+     */
+    public TextureRegion add(int regionWidth, int regionHeight, iAtlasPainter painter) {
+        if (cursorX + regionWidth > width) {
+            // Start a new shelf above the current one
+            cursorX = 0;
+            cursorY += shelfHeight + GAP;
+            shelfHeight = 0;
+        }
+        if (regionWidth > width || cursorY + regionHeight > height) {
+            return null;
+        }
+
+        painter.paint(batch, cursorX, cursorY, regionWidth, regionHeight);
+
+        TextureRegion region = new TextureRegion(getTexture(), cursorX, cursorY, regionWidth, regionHeight);
+        region.flip(false, true); // Frame buffer rows run bottom-up
+        cursorX += regionWidth + GAP;
+        shelfHeight = Math.max(shelfHeight, regionHeight);
+        return region;
+    }
+
+    // Empties the atlas; regions returned earlier no longer show their contents
+    public void clear() {
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        frameBuffer.end();
+        cursorX = 0;
+        cursorY = 0;
+        shelfHeight = 0;
+    }
+
+    public Texture getTexture() {
+        return frameBuffer.getColorBufferTexture();
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        frameBuffer.dispose();
+    }
+}
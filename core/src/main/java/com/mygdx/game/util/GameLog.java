@@ -0,0 +1,30 @@
+package com.mygdx.game.util;
+
+/**
+ * Console messages about gameplay events, such as spawns, pickups and game over.
+ * They are useful while playing, but headless batches run thousands of
+ * sessions at once and switch them off so threads do not queue on System.out.
+ */
+public class GameLog {
+    private static volatile boolean enabled = true;
+
+    private GameLog() {
+        // Static helpers only
+    }
+
+    // Turns gameplay messages on or off for the whole process
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // Prints a message while logging is on
+    public static void info(String message) {
+        if (enabled) {
+            System.out.println(message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mygdx.game.util;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Seedable source of all gameplay randomness.
+ * Each RandomStream gets its own xorshift128+ generator, seeded from one
+ * master seed through SplitMix64, so drawing more numbers in one subsystem
+ * does not shift the others. The same seed reproduces a session exactly.
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L; // SplitMix64 increment
+
+    private static GameRandom instance; // Shared generator for the windowed game
+
+    private final RandomXS128[] streams = new RandomXS128[RandomStream.values().length];
+    private long seed; // Master seed the streams were derived from
+    private long splitState; // SplitMix64 state used to derive stream seeds
+
+    // Creates a generator with an unpredictable seed
+    public GameRandom() {
+        this(System.nanoTime() ^ GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a generator whose streams are fully determined by the seed
+     *
+     * @param seed Master seed
+     */
+    public GameRandom(long seed) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new RandomXS128(1, 1);
+        }
+        setSeed(seed);
+    }
+
+    // Synchronized so threads never create two shared generators
+    public static synchronized GameRandom getInstance() {
+        if (instance == null) {
+            instance = new GameRandom();
+        }
+        return instance;
+    }
+
+    /**
+     * Restarts every stream from a new master seed
+     *
+     * @param seed Master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.splitState = seed;
+        for (RandomXS128 stream : streams) {
+            long seed0 = nextSplitMix();
+            long seed1 = nextSplitMix();
+            // xorshift128+ must not start from an all-zero state
+            stream.setState(seed0, seed1 == 0 && seed0 == 0 ? GOLDEN_GAMMA : seed1);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the generator for one subsystem
+     *
+     * @param stream The subsystem
+     * @return Its generator, owned by this object
+     */
+    public RandomXS128 get(RandomStream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * Derives the seed of one item in a numbered series, e.g. session i of a
+     * batch, so results do not depend on which thread ran which item
+     *
+     * @param masterSeed Seed of the whole series
+     * @param index      Position in the series
+     * @return Seed for that item
+     */
+    public static long seedFor(long masterSeed, long index) {
+        return mix(masterSeed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    // Random float in [0, 1) from a stream
+    public float nextFloat(RandomStream stream) {
+        return get(stream).nextFloat();
+    }
+
+    // Random float in [start, end) from a stream
+    public float range(RandomStream stream, float start, float end) {
+        return start + get(stream).nextFloat() * (end - start);
+    }
+
+    // Random int in [0, bound) from a stream
+    public int nextInt(RandomStream stream, int bound) {
+        return get(stream).nextInt(bound);
+    }
+
+    // SplitMix64: a well-mixed 64-bit value per call
+    private long nextSplitMix() {
+        return mix(splitState += GOLDEN_GAMMA);
+    }
+
+    // SplitMix64 output function
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
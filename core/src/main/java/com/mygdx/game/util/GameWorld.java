@@ -0,0 +1,49 @@
+package com.mygdx.game.util;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Size of the game world that entities are placed and clamped in.
+ * Normally this is the window size. In headless mode it is a fixed virtual
+ * size, and no textures, fonts or GL resources are created, so the game
+ * logic can run without a window.
+ */
+public class GameWorld {
+    // Volatile, since simulation workers read what the launching thread wrote
+    private static volatile boolean headless = false;
+    private static volatile float virtualWidth, virtualHeight;
+
+    /**
+     * Switches to headless mode with a virtual world size.
+     * Call this before any entity class is loaded, since balloon sizes are
+     * derived from the world width once.
+     *
+     * @param width  Virtual world width
+     * @param height Virtual world height
+     */
+    public static void enableHeadless(float width, float height) {
+        virtualWidth = width;
+        virtualHeight = height;
+        headless = true; // Written last, so a reader that sees it also sees the size
+    }
+
+    // Goes back to using the window size and loading graphics
+    public static void disableHeadless() {
+        headless = false;
+    }
+
+    // Checks whether the game runs without a graphics context
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    // Gets the world width
+    public static float getWidth() {
+        return headless ? virtualWidth : Gdx.graphics.getWidth();
+    }
+
+    // Gets the world height
+    public static float getHeight() {
+        return headless ? virtualHeight : Gdx.graphics.getHeight();
+    }
+}
@@ -0,0 +1,237 @@
+package com.mygdx.game.util;
+
+import java.util.Arrays;
+
+/**
+ * Histogram over a value range, for summarising many simulated sessions.
+ * Values outside the range are counted apart rather than folded into the
+ * edge bins, so they never skew the percentiles. Integer histograms have one
+ * bin per whole value, give exact percentiles and grow to fit larger values.
+ * Histograms with the same layout can be merged, so parallel workers can each
+ * fill their own and combine at the end.
+ */
+public class Histogram {
+    private static final int BAR_WIDTH = 40; // Characters in the longest bar of render()
+    private static final int MAX_RENDER_ROWS = 25; // Bins are grouped to stay within this many lines
+    private static final int MAX_INTEGER_BINS = 1 << 16; // Integer values past this count as above the range
+
+    private final float min;
+    private final float binWidth;
+    private final boolean integers; // One bin per whole value, read without interpolation
+    private long[] bins;
+    private long below, above; // Values outside the bins
+    private long count;
+    private double sum;
+    private float lowest = Float.POSITIVE_INFINITY, highest = Float.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty histogram of fixed-width bins
+     *
+     * @param min      Lower edge of the first bin
+     * @param max      Upper edge of the last bin; values from here on count as above the range
+     * @param binCount Number of bins
+     */
+    public Histogram(float min, float max, int binCount) {
+        this(min, (max - min) / binCount, binCount, false);
+    }
+
+    // Creates an empty histogram with the same layout as another
+    public Histogram(Histogram layout) {
+        this(layout.min, layout.binWidth, layout.bins.length, layout.integers);
+    }
+
+    private Histogram(float min, float binWidth, int binCount, boolean integers) {
+        this.min = min;
+        this.binWidth = binWidth;
+        this.integers = integers;
+        this.bins = new long[binCount];
+    }
+
+    /**
+     * Creates an empty histogram with one bin per whole value
+     *
+     * @param min Smallest value; smaller ones count as below the range
+     * @param max Largest value expected; the bins grow if larger ones arrive
+     * @return The histogram
+     */
+    public static Histogram ofIntegers(int min, int max) {
+        return new Histogram(min, 1, Math.max(1, max - min + 1), true);
+    }
+
+    public void add(float value) {
+        count++;
+        sum += value;
+        lowest = Math.min(lowest, value);
+        highest = Math.max(highest, value);
+
+        if (value < min) {
+            below++;
+            return;
+        }
+        int bin = (int) ((value - min) / binWidth);
+        if (bin >= bins.length) {
+            if (!integers || bin >= MAX_INTEGER_BINS) {
+                above++;
+                return;
+            }
+            grow(bin + 1);
+        }
+        bins[bin]++;
+    }
+
+    // Adds every value of another histogram with the same layout
+    public void merge(Histogram other) {
+        if (other.min != min || other.binWidth != binWidth || other.integers != integers
+                || (!integers && other.bins.length != bins.length)) {
+            throw new IllegalArgumentException("Histogram bins do not match");
+        }
+        if (other.bins.length > bins.length) {
+            grow(other.bins.length);
+        }
+        for (int i = 0; i < other.bins.length; i++) {
+            bins[i] += other.bins[i];
+        }
+        below += other.below;
+        above += other.above;
+        count += other.count;
+        sum += other.sum;
+        lowest = Math.min(lowest, other.lowest);
+        highest = Math.max(highest, other.highest);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    public float getMin() {
+        return count == 0 ? 0 : lowest;
+    }
+
+    public float getMax() {
+        return count == 0 ? 0 : highest;
+    }
+
+    // Number of values below the first bin
+    public long getBelow() {
+        return below;
+    }
+
+    // Number of values past the last bin
+    public long getAbove() {
+        return above;
+    }
+
+    public long getBinCount(int bin) {
+        return bins[bin];
+    }
+
+    public int getBins() {
+        return bins.length;
+    }
+
+    /**
+     * Gets a percentile from the bins. Integer histograms return the exact
+     * value; others interpolate inside the bin that holds the percentile.
+     *
+     * @param fraction Percentile as a fraction, e.g. 0.5 for the median
+     * @return The value, or negative/positive infinity if it lies below/above the range
+     */
+    public float getPercentile(float fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        double target = fraction * count;
+        if (below > 0 && target <= below) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        if (above > 0 && target > count - above) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        long seen = below;
+        for (int i = 0; i < bins.length; i++) {
+            if (seen + bins[i] >= target && bins[i] > 0) {
+                if (integers) {
+                    return min + i;
+                }
+                double within = (target - seen) / bins[i];
+                float estimate = (float) (min + (i + within) * binWidth);
+                return Math.max(lowest, Math.min(highest, estimate));
+            }
+            seen += bins[i];
+        }
+        return getUpperEdge();
+    }
+
+    // Draws the bins up to the last filled one as text lines, grouping bins when there are many
+    public String render() {
+        int last = bins.length - 1;
+        while (last > 0 && bins[last] == 0) {
+            last--;
+        }
+        int group = (last + MAX_RENDER_ROWS) / MAX_RENDER_ROWS; // Bins per line
+
+        int rows = last / group + 1;
+        long[] totals = new long[rows];
+        long peak = 1;
+        for (int i = 0; i <= last; i++) {
+            totals[i / group] += bins[i];
+            peak = Math.max(peak, totals[i / group]);
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (below > 0) {
+            out.append(String.format("%8s | %d\n", "<" + formatValue(min), below));
+        }
+        for (int row = 0; row < rows; row++) {
+            out.append(String.format("%8s | ", formatValue(min + row * group * binWidth)));
+            int bar = (int) (totals[row] * BAR_WIDTH / peak);
+            for (int j = 0; j < bar; j++) {
+                out.append('#');
+            }
+            out.append(' ').append(totals[row]).append('\n');
+        }
+        if (above > 0) {
+            out.append(String.format("%8s | %d\n", ">=" + formatValue(getUpperEdge()), above));
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.2f p10=%s p50=%s p90=%s min=%.0f max=%.0f below=%d above=%d",
+                count, getMean(), formatPercentile(0.1f), formatPercentile(0.5f), formatPercentile(0.9f),
+                getMin(), getMax(), below, above);
+    }
+
+    // Upper edge of the last bin
+    private float getUpperEdge() {
+        return min + bins.length * binWidth;
+    }
+
+    // Widens an integer histogram to at least the given number of bins
+    private void grow(int binCount) {
+        int newLength = Math.min(MAX_INTEGER_BINS, Math.max(binCount, bins.length * 2));
+        bins = Arrays.copyOf(bins, newLength);
+    }
+
+    // Percentile text, marking ones that lie outside the bins rather than inventing a value
+    private String formatPercentile(float fraction) {
+        float value = getPercentile(fraction);
+        if (value == Float.NEGATIVE_INFINITY) {
+            return "<" + formatValue(min);
+        }
+        if (value == Float.POSITIVE_INFINITY) {
+            return ">=" + formatValue(getUpperEdge());
+        }
+        return formatValue(value);
+    }
+
+    private String formatValue(float value) {
+        return integers ? String.format("%.0f", value) : String.format("%.1f", value);
+    }
+}
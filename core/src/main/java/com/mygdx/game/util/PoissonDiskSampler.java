@@ -0,0 +1,274 @@
+package com.mygdx.game.util;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Random;
+
+/**
+ * Places points in a rectangle with Bridson's Poisson-disk sampling.
+ * Points are at least minDistance apart and stay out of cells that were
+ * blocked beforehand, e.g. around the player or over balloon rows. Each
+ * run tries a fixed number of candidates per accepted point, so its cost
+ * is bounded by the area rather than by luck. Grids are kept between runs.
+ */
+public class PoissonDiskSampler {
+    private static final int CANDIDATES_PER_POINT = 30; // Bridson's k
+    private static final int MAX_SEED_ATTEMPTS = 30; // Tries to find a free first point
+
+    private final float minDistance;
+    private final float cellSize;
+    private final Random random; // Source of candidate positions and picks
+
+    private float minX, minY, maxX, maxY; // Sampling area
+    private int columns, rows;
+    private boolean[] blocked = new boolean[0]; // Cells that must stay empty
+    private int[] samples = new int[0]; // Index of the point in each cell, or -1
+
+    private final FloatArray points = new FloatArray(); // Accepted points as x,y pairs
+    private final IntArray active = new IntArray(); // Points that may still spawn neighbours
+
+    /**
+     * Creates a sampler
+     *
+     * @param minDistance Smallest allowed distance between two points
+     * @param random      Generator for all random choices, so placements can be reproduced
+     */
+    public PoissonDiskSampler(float minDistance, Random random) {
+        this.minDistance = minDistance;
+        this.random = random;
+        this.cellSize = minDistance / (float) Math.sqrt(2); // At most one point per cell
+    }
+
+    /**
+     * Sets the sampling area and clears all blocked cells
+     *
+     * @param minX Left edge
+     * @param minY Bottom edge
+     * @param maxX Right edge
+     * @param maxY Top edge
+     */
+    public void reset(float minX, float minY, float maxX, float maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = Math.max(minX, maxX);
+        this.maxY = Math.max(minY, maxY);
+        this.columns = (int) ((this.maxX - minX) / cellSize) + 1;
+        this.rows = (int) ((this.maxY - minY) / cellSize) + 1;
+
+        int cellCount = columns * rows;
+        if (blocked.length < cellCount) {
+            blocked = new boolean[cellCount];
+            samples = new int[cellCount];
+        }
+        for (int i = 0; i < cellCount; i++) {
+            blocked[i] = false;
+        }
+    }
+
+    // Keeps points out of every cell touching the rectangle
+    public void blockRect(float x, float y, float width, float height) {
+        if (x > maxX || x + width < minX || y > maxY || y + height < minY) {
+            return; // Wholly outside the area, so no cell is touched
+        }
+        int firstColumn = Math.max(0, cellIndex(x, minX));
+        int lastColumn = Math.min(columns - 1, cellIndex(x + width, minX));
+        int firstRow = Math.max(0, cellIndex(y, minY));
+        int lastRow = Math.min(rows - 1, cellIndex(y + height, minY));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                blocked[row * columns + column] = true;
+            }
+        }
+    }
+
+    // Keeps points out of every cell touching the circle
+    public void blockCircle(float centerX, float centerY, float radius) {
+        if (centerX - radius > maxX || centerX + radius < minX
+                || centerY - radius > maxY || centerY + radius < minY) {
+            return; // Bounding box misses the area, so no cell is touched
+        }
+        int firstColumn = Math.max(0, cellIndex(centerX - radius, minX));
+        int lastColumn = Math.min(columns - 1, cellIndex(centerX + radius, minX));
+        int firstRow = Math.max(0, cellIndex(centerY - radius, minY));
+        int lastRow = Math.min(rows - 1, cellIndex(centerY + radius, minY));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                // Nearest point of the cell to the circle centre
+                float cellLeft = minX + column * cellSize;
+                float cellBottom = minY + row * cellSize;
+                float dx = centerX - MathUtils.clamp(centerX, cellLeft, cellLeft + cellSize);
+                float dy = centerY - MathUtils.clamp(centerY, cellBottom, cellBottom + cellSize);
+                if (dx * dx + dy * dy <= radius * radius) {
+                    blocked[row * columns + column] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the area with points and keeps a random subset of them
+     *
+     * @param count Number of points wanted
+     * @param out   Receives the chosen points as x,y pairs (cleared first)
+     * @return Number of points written, which is less than count if the area is too crowded
+     */
+    public int sample(int count, FloatArray out) {
+        out.clear();
+        generate();
+
+        // Partial shuffle so the chosen points are spread over the whole area
+        int available = points.size / 2;
+        int chosen = Math.min(count, available);
+        for (int i = 0; i < chosen; i++) {
+            int pick = i + random.nextInt(available - i);
+            swapPoints(i, pick);
+            out.add(points.get(i * 2), points.get(i * 2 + 1));
+        }
+        return chosen;
+    }
+
+    /**
+     * Picks a uniformly random point from the cells that are not blocked
+     *
+     * @param out Receives the point
+     * @return false if every cell is blocked
+     */
+    public boolean randomFreePoint(Vector2 out) {
+        int freeCells = 0;
+        for (int i = 0; i < columns * rows; i++) {
+            if (!blocked[i]) {
+                freeCells++;
+            }
+        }
+        if (freeCells == 0) {
+            return false;
+        }
+
+        int target = random.nextInt(freeCells);
+        for (int i = 0; i < columns * rows; i++) {
+            if (!blocked[i] && target-- == 0) {
+                float x = minX + (i % columns + random.nextFloat()) * cellSize;
+                float y = minY + (i / columns + random.nextFloat()) * cellSize;
+                out.set(Math.min(x, maxX), Math.min(y, maxY));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Bridson's algorithm, reseeded so areas cut off by blocked cells are filled too
+    private void generate() {
+        points.clear();
+        active.clear();
+        for (int i = 0; i < columns * rows; i++) {
+            samples[i] = -1;
+        }
+
+        // Every seed adds a point, so this ends once the free area is saturated
+        while (seed()) {
+            grow();
+        }
+    }
+
+    // Grows points outward from the active ones until none can place another
+    private void grow() {
+        while (active.size > 0) {
+            int activeIndex = random.nextInt(active.size);
+            int point = active.get(activeIndex);
+            float px = points.get(point * 2);
+            float py = points.get(point * 2 + 1);
+
+            boolean placed = false;
+            for (int attempt = 0; attempt < CANDIDATES_PER_POINT; attempt++) {
+                // Candidate in the annulus between minDistance and twice that
+                float angle = random.nextFloat() * MathUtils.PI2;
+                float distance = minDistance * (1 + random.nextFloat());
+                float x = px + MathUtils.cos(angle) * distance;
+                float y = py + MathUtils.sin(angle) * distance;
+                if (accepts(x, y)) {
+                    addPoint(x, y);
+                    placed = true;
+                    break;
+                }
+            }
+
+            if (!placed) {
+                active.removeIndex(activeIndex);
+            }
+        }
+    }
+
+    // Finds a free first point by random probing
+    private boolean seed() {
+        for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++) {
+            float x = minX + random.nextFloat() * (maxX - minX);
+            float y = minY + random.nextFloat() * (maxY - minY);
+            if (accepts(x, y)) {
+                addPoint(x, y);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Checks bounds, blocked cells and the distance to neighbouring points
+    private boolean accepts(float x, float y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return false;
+        }
+        int column = columnOf(x);
+        int row = rowOf(y);
+        if (blocked[row * columns + column] || samples[row * columns + column] != -1) {
+            return false;
+        }
+
+        // Any point closer than minDistance lies within two cells
+        float minDistanceSquared = minDistance * minDistance;
+        for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2); r++) {
+            for (int c = Math.max(0, column - 2); c <= Math.min(columns - 1, column + 2); c++) {
+                int other = samples[r * columns + c];
+                if (other != -1) {
+                    float dx = points.get(other * 2) - x;
+                    float dy = points.get(other * 2 + 1) - y;
+                    if (dx * dx + dy * dy < minDistanceSquared) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void addPoint(float x, float y) {
+        int index = points.size / 2;
+        points.add(x, y);
+        samples[rowOf(y) * columns + columnOf(x)] = index;
+        active.add(index);
+    }
+
+    private void swapPoints(int a, int b) {
+        float x = points.get(a * 2);
+        float y = points.get(a * 2 + 1);
+        points.set(a * 2, points.get(b * 2));
+        points.set(a * 2 + 1, points.get(b * 2 + 1));
+        points.set(b * 2, x);
+        points.set(b * 2 + 1, y);
+    }
+
+    // Cell of a point inside the area; the far edge belongs to the last cell
+    private int columnOf(float x) {
+        return Math.min(columns - 1, cellIndex(x, minX));
+    }
+
+    private int rowOf(float y) {
+        return Math.min(rows - 1, cellIndex(y, minY));
+    }
+
+    // Unclamped cell index along one axis, for shapes that may reach past the area
+    private int cellIndex(float value, float origin) {
+        return (int) Math.floor((value - origin) / cellSize);
+    }
+}
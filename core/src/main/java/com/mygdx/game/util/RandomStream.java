@@ -0,0 +1,9 @@
+package com.mygdx.game.util;
+
+// Independent random sequences, one per gameplay subsystem
+public enum RandomStream {
+    SPAWN,   // Spike and power-up placement, spawn chances
+    MATH,    // Balloon values, operations and colours
+    POWERUP, // Power-up type selection
+    UI       // Cosmetic choices such as math facts, kept out of the gameplay sequences
+}
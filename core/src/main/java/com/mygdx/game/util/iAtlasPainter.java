@@ -0,0 +1,19 @@
+package com.mygdx.game.util;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Draws the contents of one region reserved in a FrameBufferAtlas
+ */
+public interface iAtlasPainter {
+    /**
+     * Draws into the reserved area, in atlas pixels with y pointing up
+     *
+     * @param batch  The atlas batch, already begun
+     * @param x      Left edge of the area
+     * @param y      Bottom edge of the area
+     * @param width  Width of the area
+     * @param height Height of the area
+     */
+    void paint(SpriteBatch batch, int x, int y, int width, int height);
+}
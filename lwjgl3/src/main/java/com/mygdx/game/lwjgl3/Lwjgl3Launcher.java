@@ -1,18 +1,40 @@
 package com.mygdx.game.lwjgl3;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.mygdx.game.GameEntity.BalloonInstanceRenderer;
 import com.mygdx.game.GameMaster;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    // Opts in to the OpenGL 3 instanced balloon renderer, for comparing it with the SpriteBatch path.
+    // -Dballoons.instanced=true does the same and survives StartupHelper's relaunch, which drops program args.
+    private static final String INSTANCED_BALLOONS_FLAG = "--instanced-balloons";
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(Arrays.asList(args).contains(INSTANCED_BALLOONS_FLAG)
+                || Boolean.getBoolean(BalloonInstanceRenderer.ENABLE_PROPERTY));
+    }
+
+    private static Lwjgl3Application createApplication(boolean instancedBalloons) {
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        if (instancedBalloons) {
+            enableGL30(configuration);
+            System.setProperty(BalloonInstanceRenderer.ENABLE_PROPERTY, "true");
+        }
+        return new Lwjgl3Application(new GameMaster(), configuration);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new GameMaster(), getDefaultConfiguration());
+    // Requests an OpenGL 3.2 core context, in which libGDX's GLSL 1.10 shaders need a version header
+    private static void enableGL30(Lwjgl3ApplicationConfiguration configuration) {
+        configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL30, 3, 2);
+        ShaderProgram.prependVertexCode = "#version 150\n#define varying out\n#define attribute in\n";
+        ShaderProgram.prependFragmentCode = "#version 150\n#define varying in\n#define texture2D texture\n"
+                + "#define gl_FragColor fragColor\nout vec4 fragColor;\n";
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {